@@ -0,0 +1,110 @@
+package com.example.fishingcardgame;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+
+/**
+ * The CardBitmapCache decodes each card image once, downsampled to the size cards are drawn at,
+ * for the TableView to draw every time that card is on the table. The cache is bounded in bytes
+ * and evicts the least recently used images first.
+ */
+class CardBitmapCache {
+    // Key of the card back; card faces use their ordinal
+    private static final int BACK = Card.DECK_SIZE;
+
+    private final Resources resources;
+    private final int width;
+    private final int height;
+    private final LruCache<Integer, Bitmap> bitmaps;
+
+    /**
+     * Create a cache
+     * @param resources resources to decode the drawables from
+     * @param width width of a card in pixels
+     * @param height height of a card in pixels
+     */
+    CardBitmapCache(Resources resources, int width, int height) {
+        this.resources = resources;
+        this.width = width;
+        this.height = height;
+        // Room for the whole deck and the back, but never more than an eighth of the heap
+        int allCards = (Card.DECK_SIZE + 1) * width * height * 4;
+        int maxBytes = (int) Math.min(allCards, Runtime.getRuntime().maxMemory() / 8);
+        this.bitmaps = new LruCache<Integer, Bitmap>(maxBytes) {
+            @Override
+            protected int sizeOf(Integer key, Bitmap bitmap) {
+                return bitmap.getByteCount();
+            }
+        };
+    }
+
+    /**
+     * Get the face of a card
+     * @param card the card
+     * @return bitmap of the card face
+     */
+    Bitmap face(Card card) {
+        return get(card.ordinal(), CardImages.drawableOf(card));
+    }
+
+    /**
+     * Get the back of the cards
+     * @return bitmap of the card back
+     */
+    Bitmap back() {
+        return get(BACK, R.drawable.card_back);
+    }
+
+    /**
+     * Decode the back and every face not in the cache yet. Meant for a background thread at
+     * startup; a card the UI needs sooner is decoded on the spot, and the later bitmap is kept
+     */
+    void preload() {
+        back();
+        for (int ordinal = 0; ordinal < Card.DECK_SIZE; ordinal++) {
+            face(Card.of(ordinal));
+        }
+    }
+
+    /**
+     * Drop all bitmaps, e.g. when the system is low on memory
+     */
+    void clear() {
+        bitmaps.evictAll();
+    }
+
+    private Bitmap get(int key, int drawable) {
+        Bitmap bitmap = bitmaps.get(key);
+        if (bitmap == null) {
+            bitmap = decode(drawable);
+            bitmaps.put(key, bitmap);
+        }
+        return bitmap;
+    }
+
+    private Bitmap decode(int drawable) {
+        // Read the size first, then decode at the largest power of two below it that still covers
+        // the card, and scale the rest of the way
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        options.inScaled = false;
+        BitmapFactory.decodeResource(resources, drawable, options);
+        int sampleSize = 1;
+        while (options.outWidth / (sampleSize * 2) >= width && options.outHeight / (sampleSize * 2) >= height) {
+            sampleSize *= 2;
+        }
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+        Bitmap sampled = BitmapFactory.decodeResource(resources, drawable, options);
+        if (sampled.getWidth() == width && sampled.getHeight() == height) {
+            return sampled;
+        }
+        Bitmap scaled = Bitmap.createScaledBitmap(sampled, width, height, true);
+        if (scaled != sampled) {
+            sampled.recycle();
+        }
+        return scaled;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.fishingcardgame;
+
+/**
+ * The drawable of every card face, looked up by card ordinal instead of by resource name
+ */
+final class CardImages {
+    // In Card ordinal order: by rank, then Clubs, Diamonds, Hearts, Spades
+    private static final int[] DRAWABLES = {
+            R.drawable.card_2_of_clubs, R.drawable.card_2_of_diamonds, R.drawable.card_2_of_hearts, R.drawable.card_2_of_spades,
+            R.drawable.card_3_of_clubs, R.drawable.card_3_of_diamonds, R.drawable.card_3_of_hearts, R.drawable.card_3_of_spades,
+            R.drawable.card_4_of_clubs, R.drawable.card_4_of_diamonds, R.drawable.card_4_of_hearts, R.drawable.card_4_of_spades,
+            R.drawable.card_5_of_clubs, R.drawable.card_5_of_diamonds, R.drawable.card_5_of_hearts, R.drawable.card_5_of_spades,
+            R.drawable.card_6_of_clubs, R.drawable.card_6_of_diamonds, R.drawable.card_6_of_hearts, R.drawable.card_6_of_spades,
+            R.drawable.card_7_of_clubs, R.drawable.card_7_of_diamonds, R.drawable.card_7_of_hearts, R.drawable.card_7_of_spades,
+            R.drawable.card_8_of_clubs, R.drawable.card_8_of_diamonds, R.drawable.card_8_of_hearts, R.drawable.card_8_of_spades,
+            R.drawable.card_9_of_clubs, R.drawable.card_9_of_diamonds, R.drawable.card_9_of_hearts, R.drawable.card_9_of_spades,
+            R.drawable.card_10_of_clubs, R.drawable.card_10_of_diamonds, R.drawable.card_10_of_hearts, R.drawable.card_10_of_spades,
+            R.drawable.card_j_of_clubs, R.drawable.card_j_of_diamonds, R.drawable.card_j_of_hearts, R.drawable.card_j_of_spades,
+            R.drawable.card_q_of_clubs, R.drawable.card_q_of_diamonds, R.drawable.card_q_of_hearts, R.drawable.card_q_of_spades,
+            R.drawable.card_k_of_clubs, R.drawable.card_k_of_diamonds, R.drawable.card_k_of_hearts, R.drawable.card_k_of_spades,
+            R.drawable.card_a_of_clubs, R.drawable.card_a_of_diamonds, R.drawable.card_a_of_hearts, R.drawable.card_a_of_spades,
+    };
+
+    private CardImages() {
+    }
+
+    /**
+     * Get the drawable of a card face
+     * @param card the card
+     * @return resource id of the drawable
+     */
+    static int drawableOf(Card card) {
+        return DRAWABLES[card.ordinal()];
+    }
+}
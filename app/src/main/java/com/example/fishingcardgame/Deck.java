@@ -1,45 +0,0 @@
-package com.example.fishingcardgame;
-
-import java.util.ArrayList;
-import java.util.Collections;
-
-public class Deck {
-    private ArrayList<Card> cards;
-
-    public Deck() {
-        String[] suits = {"Clubs", "Diamonds", "Hearts", "Spades"};
-        String[] ranks = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
-
-        cards = new ArrayList<>();
-
-        for (String suit : suits) {
-            for (String rank : ranks) {
-                cards.add(new Card(suit, rank));
-            }
-        }
-        Collections.shuffle(cards);
-    }
-
-    /**
-     * Shuffle the deck
-     */
-    public void shuffle() {
-        Collections.shuffle(cards);
-    }
-
-    public Card drawCard() {
-        if (!cards.isEmpty()) {
-            return cards.remove(0);
-        }
-        return null;
-    }
-
-    public int getSize() {
-        return cards.size();
-    }
-
-    public boolean isEmpty() {
-        return cards.isEmpty();
-    }
-}
-
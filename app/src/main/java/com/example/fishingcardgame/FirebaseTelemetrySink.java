@@ -0,0 +1,48 @@
+package com.example.fishingcardgame;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.os.Bundle;
+
+import com.google.firebase.analytics.FirebaseAnalytics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A TelemetrySink that logs every event to Firebase Analytics. While the device has no network
+ * it refuses the batch, so the Telemetry pipeline keeps it in its spool file until it is back
+ */
+class FirebaseTelemetrySink implements TelemetrySink {
+    private final FirebaseAnalytics analytics;
+    private final ConnectivityManager connectivity;
+
+    FirebaseTelemetrySink(Context context) {
+        this.analytics = FirebaseAnalytics.getInstance(context);
+        this.connectivity = context.getSystemService(ConnectivityManager.class);
+    }
+
+    @Override
+    public void send(List<TelemetryEvent> events) throws IOException {
+        if (!isOnline()) {
+            throw new IOException("No network");
+        }
+        for (TelemetryEvent event : events) {
+            Bundle params = new Bundle();
+            for (Map.Entry<String, Long> param : event.getParams().entrySet()) {
+                params.putLong(param.getKey(), param.getValue());
+            }
+            params.putLong("event_time", event.getTime());
+            analytics.logEvent(event.getName(), params);
+        }
+    }
+
+    private boolean isOnline() {
+        Network network = connectivity != null ? connectivity.getActiveNetwork() : null;
+        NetworkCapabilities capabilities = network != null ? connectivity.getNetworkCapabilities(network) : null;
+        return capabilities != null && capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET);
+    }
+}
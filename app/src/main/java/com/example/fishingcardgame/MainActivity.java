@@ -6,54 +6,56 @@
 
 package com.example.fishingcardgame;
 
-import android.animation.Animator;
-import android.animation.AnimatorListenerAdapter;
-import android.animation.AnimatorSet;
-import android.animation.ObjectAnimator;
 import android.annotation.SuppressLint;
+import android.content.ComponentCallbacks2;
 import android.content.DialogInterface;
-import android.media.Image;
-import android.media.MediaPlayer;
-import android.net.Uri;
 import android.os.Bundle;
-import android.os.Handler;
-import android.util.DisplayMetrics;
+import android.os.Debug;
+import android.os.SystemClock;
 import android.util.Log;
 import android.util.TypedValue;
+import android.view.Choreographer;
 import android.view.View;
-import android.view.ViewGroup;
-import android.view.ViewTreeObserver;
 import android.widget.ArrayAdapter;
 import android.widget.Button;
 import android.widget.ImageButton;
-import android.widget.ImageView;
-import android.widget.LinearLayout;
 import android.widget.Spinner;
 import android.widget.TextView;
 import android.widget.Toast;
-import android.widget.VideoView;
 
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.content.ContextCompat;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * MainActivity sets up the game UI, handles user interactions, and manages
  * animations. It extends AppCompatActivity and implements required listeners.
  */
-public class MainActivity extends AppCompatActivity implements GameLogic.GameListener {
+public class MainActivity extends AppCompatActivity implements GameEngine.Listener {
 
     // Constants and fields with appropriate naming conventions
     private static final int ANIMATION_DURATION = 500;
-
-    private GameLogic gameLogic;
-    private ViewGroup playerHandView, aliceCardsView, bobCardsView, charlieCardsView;
+    private static final int DEAL_STAGGER = 150;  // time between two dealt cards leaving the deck
+    private static final int AUTO_PLAY_STEP = 3 * ANIMATION_DURATION;  // least time between two auto-played steps
+    private static final int FAST_FORWARD_STEP = 50;
+    private static final String EVENT_LOG_FILE = "game_events.bin";
+    private static final String TRACE_FILE = "trace.txt";
+    private static final String METRICS_FILE = "metrics.txt";
+    private static final String TELEMETRY_SPOOL_FILE = "telemetry_spool.txt";
+    private static final String SAVE_FILE = "saved_game.bin";
+
+    private GameEngine engine;
+    private TableView tableView;
+    private TableView.Batch dealBatch;  // open while the cards of a round are being dealt
     private Spinner rankSpinner;
     private Spinner botSpinner;
     private Button nextButton;
@@ -62,15 +64,22 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
     private int cardHeight;
     private TextView humanScoreTextView, aliceScoreTextView, bobScoreTextView, charlieScoreTextView;
 
-    private ViewGroup deckLayout;
-    private Map<Player, ViewGroup> handViews;
-    private Map<Card, ImageView> cardViewMap = new HashMap<>();
-    private int screenWidthPx = 0;
-    private int screenHeightPx = 0;
-    private ArrayList<ImageView> animatedCardViewList = new ArrayList<ImageView>();
     private ImageButton gameRulesButton, settingsButton = null;
 
-    private VideoView videoView;
+    private CardBitmapCache cardBitmaps;
+    private List<String> shownRanks = new ArrayList<>();  // ranks in the rank spinner
+    private boolean autoPlay = false;  // bots play on without clicks
+    private boolean fastForward = false;  // everyone plays on without clicks or animations
+    private final Pacer pacer = new Pacer(0);
+    private TurnResult shownResult = null;  // the step on screen
+    private final TraceBuffer trace = new TraceBuffer();
+    private final GameMetrics metrics = new GameMetrics();
+    private GameMetrics.Histogram clickToShownMillis;
+    private GameMetrics.Histogram shownToReadyMillis;
+    private long clickedAt = -1;  // time of the click waiting for its result, -1 if none
+    private long shownAt;
+    private TextView metricsOverlay;
+    private Telemetry telemetry;
 
     @SuppressLint("WrongViewCast")
     @Override
@@ -81,16 +90,32 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
         // Convert dp to pixels
         cardWidth = (int) TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, Card.cardWidth, getResources().getDisplayMetrics());
         cardHeight = (int) TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, Card.cardHeight, getResources().getDisplayMetrics());
-        DisplayMetrics displayMetrics = new DisplayMetrics();
-        getWindowManager().getDefaultDisplay().getMetrics(displayMetrics);
-        screenWidthPx = displayMetrics.widthPixels;
-        screenHeightPx = displayMetrics.heightPixels;
-
-        deckLayout = findViewById(R.id.deckLayout);
-        playerHandView = findViewById(R.id.playerHand);
-        aliceCardsView = findViewById(R.id.aliceCards);
-        bobCardsView = findViewById(R.id.bobCards);
-        charlieCardsView = findViewById(R.id.charlieCards);
+        cardBitmaps = new CardBitmapCache(getResources(), cardWidth, cardHeight);
+
+        tableView = findViewById(R.id.tableView);
+        tableView.setCardBitmaps(cardBitmaps, cardWidth, cardHeight);
+        tableView.setMetrics(metrics);
+        tableView.setDeckVisible(false);  // The first frame shows the bare table; the deck comes with the first result
+        // Decode every card off the main thread while the first frames are drawn
+        Thread preload = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                cardBitmaps.preload();
+            }
+        }, "card-preload");
+        preload.setPriority(Thread.MIN_PRIORITY);
+        preload.start();
+        metricsOverlay = findViewById(R.id.metricsOverlay);
+        clickToShownMillis = metrics.histogram("ui.click_to_shown_ms");
+        shownToReadyMillis = metrics.histogram("ui.shown_to_ready_ms");
+        metrics.setAllocationProbe(new GameMetrics.AllocationProbe() {
+            @Override
+            public long allocatedBytes() {
+                // Bytes allocated by the whole process since it started
+                String bytes = Debug.getRuntimeStat("art.gc.bytes-allocated");
+                return bytes != null ? Long.parseLong(bytes) : -1;
+            }
+        });
 
 
         rankSpinner = findViewById(R.id.rankSpinner);
@@ -104,7 +129,6 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
 
         ImageButton settingsButton = findViewById(R.id.settingsButton);
         gameRulesButton = findViewById(R.id.gameRulesButton);
-//        videoView = findViewById(R.id.videoView);
 
         settingsButton.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -127,21 +151,87 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
             }
         });
 
-        gameLogic = new GameLogic(MainActivity.this);
-        handViews = new HashMap<>();
-        handViews.put(gameLogic.getHumanPlayer(), playerHandView);
-        handViews.put(gameLogic.getAlicePlayer(), aliceCardsView);
-        handViews.put(gameLogic.getBobPlayer(), bobCardsView);
-        handViews.put(gameLogic.getCharliePlayer(), charlieCardsView);
-        // Now all views have been laid out, start the game logic
-        List<String> botNames = new ArrayList<>();
-        botNames.add(gameLogic.getAlicePlayer().getName());
-        botNames.add(gameLogic.getBobPlayer().getName());
-        botNames.add(gameLogic.getCharliePlayer().getName());
+        // The game runs on its own thread and sends back what every command did
+        engine = new GameEngine(this, ContextCompat.getMainExecutor(this));
+        engine.setTraceBuffer(trace);
+        engine.setMetrics(metrics);
+        List<String> playerNames = engine.getPlayerNames();
+        List<String> botNames = new ArrayList<>(playerNames.subList(1, playerNames.size()));
         ArrayAdapter<String> botAdapter = new ArrayAdapter<String>(this, R.layout.spinner_item, botNames);
         botAdapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
         botSpinner.setAdapter(botAdapter);
-        gameLogic.startGame();
+
+        // Everything else waits until the first frame is on screen
+        Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+            @Override
+            public void doFrame(long frameTimeNanos) {
+                // Runs before this frame is drawn; the posted stage runs after it
+                tableView.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        startAfterFirstFrame();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * The second stage of the startup: open the files, connect the analytics and start the game,
+     * whose first result deals the cards or shows the resumed table
+     */
+    private void startAfterFirstFrame() {
+        if (isFinishing() || isDestroyed()) {
+            return;
+        }
+        openEventLog();
+        // Gameplay analytics are sent in batches from their own thread, and kept while offline
+        telemetry = new Telemetry(new FirebaseTelemetrySink(this), new File(getFilesDir(), TELEMETRY_SPOOL_FILE));
+        engine.setTelemetry(telemetry);
+        // The game is saved after every step, so it goes on where it was if the process was killed
+        File saveFile = new File(getFilesDir(), SAVE_FILE);
+        engine.setSaveFile(saveFile);
+        engine.resume(saveFile);
+    }
+
+    @Override
+    protected void onStop() {
+        super.onStop();
+        engine.flushEventLog();
+        if (telemetry != null) {
+            telemetry.flush();
+        }
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        // Closes the event log after the commands still queued
+        engine.shutdown();
+        if (telemetry != null) {
+            telemetry.close();
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            // The table looks every bitmap up as it draws, so they are decoded again on the next frame
+            cardBitmaps.clear();
+        }
+    }
+
+    /**
+     * Record every game event to an append-only binary log in the app's files directory
+     */
+    private void openEventLog() {
+        try {
+            File file = new File(getFilesDir(), EVENT_LOG_FILE);
+            engine.setEventLog(new EventLog(new FileOutputStream(file, true)));
+        } catch (IOException e) {
+            Log.w("EventLog", "Game events will not be recorded", e);
+        }
     }
 
     /**
@@ -150,13 +240,64 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
     private void showSettingsDialog() {
         AlertDialog.Builder builder = new AlertDialog.Builder(this);
         builder.setTitle("Settings");
-        builder.setItems(new CharSequence[]{"Quit Game"}, new DialogInterface.OnClickListener() {
+        CharSequence[] items = {
+                "Quit Game",
+                autoPlay ? "Stop Auto-play" : "Auto-play Bots",
+                fastForward ? "Stop Fast Forward" : "Fast Forward",
+                trace.isEnabled() ? "Stop Tracing" : "Start Tracing",
+                "Save Trace",
+                metricsOverlay.getVisibility() == View.VISIBLE ? "Hide Metrics" : "Show Metrics",
+                "Save Metrics"
+        };
+        builder.setItems(items, new DialogInterface.OnClickListener() {
             @Override
             public void onClick(DialogInterface dialog, int which) {
                 switch (which) {
                     case 0: // Quit Game option
                         quitGame();
                         break;
+                    case 1: // Bots take their turns one after another, as soon as the table is ready
+                        autoPlay = !autoPlay;
+                        fastForward = false;
+                        engine.setAutoPlay(false, 0, false);
+                        pacer.setMinDisplayMillis(autoPlay ? AUTO_PLAY_STEP : 0);
+                        if (pacer.isReady() && shownResult != null) {
+                            onStepShown(shownResult);
+                        }
+                        break;
+                    case 2: // The whole table plays on, with the cards jumping to their hands
+                        fastForward = !fastForward;
+                        autoPlay = false;
+                        pacer.setMinDisplayMillis(0);
+                        if (fastForward) {
+                            tableView.clear();  // Drop the cards in flight; the next result shows every hand
+                        }
+                        engine.setAutoPlay(fastForward, FAST_FORWARD_STEP, true);
+                        break;
+                    case 3:
+                        trace.setEnabled(!trace.isEnabled());
+                        break;
+                    case 4:
+                        save(TRACE_FILE, new Report() {
+                            @Override
+                            public void writeTo(Writer out) throws IOException {
+                                trace.dump(out);
+                            }
+                        });
+                        break;
+                    case 5:
+                        boolean show = metricsOverlay.getVisibility() != View.VISIBLE;
+                        metricsOverlay.setText(metrics.summary());
+                        metricsOverlay.setVisibility(show ? View.VISIBLE : View.GONE);
+                        break;
+                    case 6:
+                        save(METRICS_FILE, new Report() {
+                            @Override
+                            public void writeTo(Writer out) throws IOException {
+                                metrics.dump(out);
+                            }
+                        });
+                        break;
                 }
             }
         });
@@ -171,11 +312,47 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
         dialog.show();
     }
 
+    /**
+     * A diagnostic report that can be saved to a file
+     */
+    private interface Report {
+        void writeTo(Writer out) throws IOException;
+    }
+
+    /**
+     * Write a report to a text file in the app's files directory, on a background thread
+     * @param fileName name of the file
+     * @param report the report
+     */
+    private void save(String fileName, final Report report) {
+        final File file = new File(getFilesDir(), fileName);
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                String message;
+                try (Writer out = new BufferedWriter(new FileWriter(file))) {
+                    report.writeTo(out);
+                    message = "Saved " + file.getName();
+                } catch (IOException e) {
+                    message = "Could not save " + file.getName();
+                }
+                final String result = message;
+                runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Toast.makeText(MainActivity.this, result, Toast.LENGTH_SHORT).show();
+                    }
+                });
+            }
+        }, "report-writer").start();
+    }
+
     /**
      * Method to handle quitting the game
      */
     private void quitGame() {
         Toast.makeText(this, "Quitting Game...", Toast.LENGTH_SHORT).show();
+        engine.discardSave();  // The next launch deals a new game
         // Add logic to quit the game, such as finishing the activity
         finish(); // This will close the activity and effectively quit the game
     }
@@ -206,269 +383,149 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
     }
 
     /**
-     * Hide deck view when deck is empty
+     * Show what a command to the engine did: move the cards, then show the table as it is now
+     * @param result the result of the command
      */
     @Override
-    public void onDeckEmpty() {
-        deckLayout.setVisibility(View.GONE);  // Hide the deck when no cards are left
-    }
-
-    /**
-     * Refill deck after a round is over
-     */
-    public void refillDeck() {
-        deckLayout.setVisibility(View.VISIBLE);
-    }
-
-    /**
-     * A part of setting up a new round
-     */
-    public void playRound() {
-        View rootView = findViewById(android.R.id.content);
-
-        // Attach the OnGlobalLayoutListener to the root view
-        rootView.getViewTreeObserver().addOnGlobalLayoutListener(new ViewTreeObserver.OnGlobalLayoutListener() {
+    public void onTurnResult(final TurnResult result) {
+        GameSnapshot table = result.getTable();
+        shownResult = result;
+        trace.record(TraceBuffer.SHOWN, table.getCurrentSeat(), result.getState().ordinal());
+        shownAt = SystemClock.uptimeMillis();
+        if (clickedAt >= 0) {
+            clickToShownMillis.record(shownAt - clickedAt);
+            clickedAt = -1;
+        }
+        // The next step waits for the animations of this one
+        nextButton.setEnabled(false);
+        pacer.begin(new Runnable() {
             @Override
-            public void onGlobalLayout() {
-                // Remove the listener to avoid multiple calls
-                rootView.getViewTreeObserver().removeOnGlobalLayoutListener(this);
-                new Handler().postDelayed(new Runnable() {
-                    @Override
-                    public void run() {
-                        nextButton.setEnabled(true);
-                        botSpinner.setEnabled(true);
-                        rankSpinner.setEnabled(true);
-                        ArrayAdapter<String> adapter = new ArrayAdapter<>(MainActivity.this, R.layout.spinner_item, gameLogic.getHumanPlayer().getValidRanks());
-                        adapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
-//                        android.R.layout.simple_spinner_dropdown_item
-                        rankSpinner.setAdapter(adapter);
-                    }
-                }, 2000);
+            public void run() {
+                onStepShown(result);
             }
         });
-    }
-
-    /**
-     * Update the rank spinner button
-     */
-    public void updateSpinner() {
-        ArrayAdapter<String> adapter = new ArrayAdapter<>(MainActivity.this, R.layout.spinner_item, gameLogic.getHumanPlayer().getValidRanks());
-        adapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
-        rankSpinner.setAdapter(adapter);
-    }
-
-
-
-    /**
-     * Give all functions and actions for the next button
-     */
-    private void onNextButtonClicked() {
-        if (gameLogic.getScoringPlayer() != null) {
-//            if (gameLogic.getTotalRoundPoint() == 1 && !playOnce  ) {
-//                if (videoView.getVisibility() == View.VISIBLE ) {
-//                    stopAndHideVideo(); // skip video by clicking "next" button
-//                } else {
-//                    playVideo();
-//                }
-//                return;
-//            }
-
-            String message = gameLogic.getScoringPlayer().getName() + " has collected 4 cards of " + gameLogic.getScoringRank() + " and get 1 score";
-            statusText.setText(message);
-            String collectedRank = gameLogic.collectedRanks().get(0);
-            scorePoint(gameLogic.getScoringPlayer() , gameLogic.getScoringPlayer().removeSet(collectedRank));
-            onScoreUpdate(gameLogic.getHumanScore(), gameLogic.getBotScores());
-            if (gameLogic.currentPlayer.isHuman() ) {
-                enableButtons();
-                updateSpinner();
-                // only enable buttons if this is Charlie scoring animation
-            }
-            gameLogic.setScoringPlayer(null);
-            gameLogic.setScoringRank("");
-
-            return;
-        }
-
-        if (gameLogic.isGameOver()) {
-            gameLogic.determineWinner();
+        if (result.isNewRound()) {
+            refillDeck();
         }
-        if (gameLogic.isRoundOver() && gameLogic.isStartNextRound() == false) {
-//          ALl handView should be empty, but clear all UI if necessary
-            statusText.setText("Round is over. Click next to start next round");
-            gameLogic.setStartNextRound(true);
-            cardViewMap.clear();
-            return;
+        if (!fastForward) {
+            List<TurnResult.CardMove> moves = result.getMoves();
+            for (int i = 0; i < moves.size(); i++) {
+                showMove(moves.get(i));
+            }
         }
-        if (gameLogic.isStartNextRound()) {
-            gameLogic.setupRound();
-            gameLogic.playRound();
-            gameLogic.setStartNextRound(false);
-            Log.d("tag", "this is next round");
-            return;
+        for (int seat = 0; seat < table.getPlayerCount(); seat++) {
+            tableView.setHand(seat, table.getHand(seat));
         }
-        if (gameLogic.currentPlayer.getHand().size() == 0 && gameLogic.getDeck().isEmpty() == false ) {
-            // Allows player with empty hand to draw a card and play
-            Card temp = gameLogic.getDeck().drawCard();
-            gameLogic.currentPlayer.addCard(temp);
+        tableView.setDeckVisible(table.getDeckSize() > 0);  // Hide the deck when no cards are left
+        if (result.isNewRound()) {
+            playRound();
         }
-        if (gameLogic.currentPlayer.getHand().size() == 0 && gameLogic.getDeck().isEmpty() ) {
-            statusText.setText("Deck is empty and current player has no card. Turn skipped");
-            gameLogic.setNextPlayer(gameLogic.currentPlayer);
-            return;
+        onScoreUpdate(table);
+        if (result.getMessage() != null) {
+            statusText.setText(result.getMessage());
         }
-
-        if (gameLogic.currentPlayer.isHuman()) {
-            updateHumanHandView(); // update hand view here may be ineffective
-            Player targetBot = getSelectedBot();
-            String selectedRank = getSelectedRank();
-
-            if (targetBot != null && selectedRank != null) {
-                gameLogic.humanTurn(targetBot, selectedRank);
-//                refreshCard = true;
-//                refreshHandButton.setEnabled(true);
-//                nextButton.setEnabled(false);
-
-            } else {
-                statusText.setText("Please select a bot and a rank.");
-            }
+        if (result.isHumanTurn()) {
+            enableButtons();
+            updateSpinner(result.getHumanRanks());
         } else {
-            updateBotHandView(gameLogic.currentPlayer);
-            gameLogic.botTurn(gameLogic.currentPlayer);
-        }
-        String humanCard = "";
-        String aliceCard = "";
-        String bobCard = "";
-        String charlieCard = "";
-        for (Card tempCard : gameLogic.getHumanPlayer().getHand()) {
-            humanCard += tempCard.getRank() + "_" + tempCard.getSuit() + " ";
+            disableButtons();
         }
-        for (Card tempCard : gameLogic.getAlicePlayer().getHand()) {
-            aliceCard += tempCard.getRank() + "_" + tempCard.getSuit() + " ";
+        pacer.shown();
+    }
+
+    /**
+     * Allow the next step once a step has been shown: enable the next button, or play on
+     * if the bots are auto-played
+     * @param result the step shown
+     */
+    private void onStepShown(TurnResult result) {
+        trace.record(TraceBuffer.READY, TraceBuffer.NONE, TraceBuffer.NONE);
+        shownToReadyMillis.record(SystemClock.uptimeMillis() - shownAt);
+        if (metricsOverlay.getVisibility() == View.VISIBLE) {
+            metricsOverlay.setText(metrics.summary());
         }
-        for (Card tempCard : gameLogic.getBobPlayer().getHand()) {
-            bobCard += tempCard.getRank() + "_" + tempCard.getSuit() + " ";
+        if (result.isGameOver()) {
+            return;
         }
-        for (Card tempCard : gameLogic.getCharliePlayer().getHand()) {
-            charlieCard += tempCard.getRank() + "_" + tempCard.getSuit() + " ";
+        nextButton.setEnabled(true);
+        if (autoPlay && !result.isHumanTurn()) {
+            engine.next(-1, null);
         }
-        Log.d("card", "Human " + humanCard);
-        Log.d("card", "Alice " + aliceCard);
-        Log.d("card", "Bob " + bobCard);
-        Log.d("card", "Charlie " + charlieCard);
+    }
+
+    @Override
+    public void onEngineError(Exception e) {
+        Log.w("GameEngine", "Game engine failed", e);
     }
 
     /**
-     * Update and refresh hand view for human players
+     * Refill deck after a round is over
      */
-    public void updateHumanHandView() {
-        // this method also sort humanHand
-        Card.RankComparator comparator = new Card().new RankComparator();
-        Collections.sort(gameLogic.getHumanPlayer().getHand(), comparator);
-        LinearLayout humanHandView = findViewById(R.id.playerHand); // Ensure this ID matches your layout
-
-        humanHandView.removeAllViews();
-
-        for (int i = 0; i < gameLogic.getHumanPlayer().getHand().size(); i++) {
-            Card card = gameLogic.getHumanPlayer().getHand().get(i);
-            ImageView oldView = cardViewMap.get(card);
-            if (oldView.getParent() != null) {
-                ViewGroup parent = (ViewGroup) oldView.getParent();
-                parent.removeView(oldView);
-            }
-
-            ImageView newCardView = new ImageView(MainActivity.this);
-            newCardView.setTag(card);
-            cardViewMap.put(card, newCardView);
-            newCardView.setImageResource(getCardDrawable(card));  // This is a custom method, see below
-            // Set the layout params (size, margins, etc.)
-            LinearLayout.LayoutParams params = new LinearLayout.LayoutParams(cardWidth, cardHeight);
-            params.setMargins(-cardWidth / 2, 0, 0, 0);
-            newCardView.setLayoutParams(params);
-            humanHandView.addView(newCardView);
-            newCardView.setX(0);
-            newCardView.setY(0);
-
-       }
+    private void refillDeck() {
+        tableView.clear();
+        tableView.setDeckVisible(true);
+        // The cards of the new round are collected here and dealt together in playRound()
+        dealBatch = fastForward ? null : tableView.newBatch(DEAL_STAGGER, 2 * ANIMATION_DURATION);
     }
 
     /**
-     * Update hand view for a bot
-     * @param bot the bot that will get UI update and refresh
+     * A part of setting up a new round: deal the cards collected since refillDeck()
      */
-    public void updateBotHandView(Player bot) {
-        ViewGroup tempHandView = handViews.get(bot);
-        Card.RankComparator comparator = new Card().new RankComparator();
-        if ( bot.getHand().size() > 0 ) {
-            Collections.sort(bot.getHand(), comparator);
+    private void playRound() {
+        if (dealBatch != null) {
+            dealBatch.start(pacer.track());
+            dealBatch = null;
         }
-        tempHandView.removeAllViews();
-
-        for (int i = 0; i < bot.getHand().size(); i++) {
-            Card card = bot.getHand().get(i);
-            ImageView oldView = cardViewMap.get(card);
-            // sometimes, oldView just turns to null
-            if (oldView != null && oldView.getParent() != null) {
-                ViewGroup parent = (ViewGroup) oldView.getParent();
-                parent.removeView(oldView);
-            }
-
-            ImageView newCardView = new ImageView(MainActivity.this);
-//                    cardViewMap.remove(card);
-            newCardView.setTag(card);
-            cardViewMap.put(card, newCardView);
-            newCardView.setImageResource(R.drawable.card_back);
-//            newCardView.setImageResource(getCardDrawable(card));
-            LinearLayout.LayoutParams params = null;
-            if ( bot == gameLogic.getAlicePlayer() || bot == gameLogic.getCharliePlayer() ) {
-                params = new LinearLayout.LayoutParams(cardHeight , cardWidth );
-                params.setMargins(0, -cardWidth * 5 / 8 , 0, 0);
-                newCardView.setRotation(90);
-            } else {
-                params = new LinearLayout.LayoutParams(cardWidth ,cardHeight  );
-                params.setMargins(- cardWidth / 2, 0  , 0, 0);
-            }
-            if ( i==0 ) {
-                params.setMargins(0, 0  , 0, 0);
-            }
-            newCardView.setLayoutParams(params);
+    }
 
-            tempHandView.addView(newCardView);
-            newCardView.setX(0);
-            newCardView.setY(0);
+    /**
+     * Animate cards moving: dealt or drawn from the deck, given to another player or collected
+     * as a set
+     * @param move the cards and where they went
+     */
+    private void showMove(TurnResult.CardMove move) {
+        if (dealBatch != null && move.getFrom() == TableView.DECK) {
+            dealBatch.add(Card.of(Long.numberOfTrailingZeros(move.getCards())), TableView.DECK, move.getTo());
+        } else if (move.getTo() == TableView.DECK) {
+            // The set is shown face up on its way to the middle of the table
+            tableView.moveCards(move.getCards(), move.getFrom(), TableView.DECK, 0, 4 * ANIMATION_DURATION, pacer.track());
+        } else {
+            tableView.moveCards(move.getCards(), move.getFrom(), move.getTo(), 0, 2 * ANIMATION_DURATION, pacer.track());
         }
     }
 
     /**
-     * A helper method to get image for the card
-     * @param card the card that will display an image
-     * @return return image for the card
+     * Update the rank spinner button
+     * @param ranks the ranks the human player can ask for
      */
-    private int getCardDrawable(Card card) {
-        // Convert the card object (rank and suit) to the appropriate drawable resource
-        String cardName = "card_" + card.getRank().toLowerCase() + "_of_" + card.getSuit().toLowerCase();
-        int drawableResourceId = getResources().getIdentifier(cardName, "drawable", getPackageName());
-//        return ContextCompat.getDrawable(this, drawableResourceId);
-        return drawableResourceId;
+    private void updateSpinner(List<String> ranks) {
+        if (ranks.equals(shownRanks)) {
+            return;  // Keep the player's choice
+        }
+        shownRanks = ranks;
+        ArrayAdapter<String> adapter = new ArrayAdapter<>(MainActivity.this, R.layout.spinner_item, ranks);
+        adapter.setDropDownViewResource(android.R.layout.simple_spinner_dropdown_item);
+        rankSpinner.setAdapter(adapter);
     }
 
+    /**
+     * Give all functions and actions for the next button
+     */
+    private void onNextButtonClicked() {
+        trace.record(TraceBuffer.CLICK, TraceBuffer.NONE, TraceBuffer.NONE);
+        clickedAt = SystemClock.uptimeMillis();
+        engine.next(getSelectedBot(), getSelectedRank());
+    }
 
     /**
      * Get bot for spinner so that human can ask
-     * @return all bots to ask
+     * @return seat of the selected bot, or -1 if none is selected
      */
-    private Player getSelectedBot() {
-        String selectedBotName = botSpinner.getSelectedItem().toString();
-
-        switch (selectedBotName) {
-            case "Alice":
-                return gameLogic.getBotPlayers().get(0);
-            case "Bob":
-                return gameLogic.getBotPlayers().get(1);
-            case "Charlie":
-                return gameLogic.getBotPlayers().get(2);
-            default:
-                return null;
+    private int getSelectedBot() {
+        if (botSpinner.getSelectedItem() == null) {
+            return -1;
         }
+        return engine.getPlayerNames().indexOf(botSpinner.getSelectedItem().toString());
     }
 
     /**
@@ -484,29 +541,20 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
 
     /**
      * Update the score board
-     * @param humanScore human score
-     * @param botScores scores of each bot
+     * @param table the table with the scores of every seat
      */
-    @Override
-    public void onScoreUpdate(int humanScore, int[] botScores) {
+    private void onScoreUpdate(GameSnapshot table) {
         // Update the scores for human and each bot
-        humanScoreTextView.setText(String.valueOf(humanScore));
-        aliceScoreTextView.setText(String.valueOf(botScores[0]));
-        bobScoreTextView.setText(String.valueOf(botScores[1]));
-        charlieScoreTextView.setText(String.valueOf(botScores[2]));
-    }
-
-    @Override
-    public void onGameOver(String winnerMessage) {
-        // Display the winner message and disable the next button
-        statusText.setText(winnerMessage);
-        nextButton.setEnabled(false);
+        humanScoreTextView.setText(String.valueOf(table.getScore(0)));
+        aliceScoreTextView.setText(String.valueOf(table.getScore(1)));
+        bobScoreTextView.setText(String.valueOf(table.getScore(2)));
+        charlieScoreTextView.setText(String.valueOf(table.getScore(3)));
     }
 
     /**
      * Disable all spinner buttons
      */
-    public void disableButtons() {
+    private void disableButtons() {
         rankSpinner.setEnabled(false);
         botSpinner.setEnabled(false);
         rankSpinner.setVisibility(View.INVISIBLE);
@@ -516,421 +564,10 @@ public class MainActivity extends AppCompatActivity implements GameLogic.GameLis
     /**
      * Enable all spinner buttons
      */
-    public void enableButtons() {
+    private void enableButtons() {
         rankSpinner.setEnabled(true);
         botSpinner.setEnabled(true);
         rankSpinner.setVisibility(View.VISIBLE);
         botSpinner.setVisibility(View.VISIBLE);
     }
-
-    /**
-     * Test animation
-     */
-    @SuppressLint("ResourceType")
-    @Override
-    public void showCardAnimation() {
-
-    }
-
-    /**
-     * show animation of drawing card or distributing cards
-     * @param player the player that will receive cards
-     * @param card a card that is distributed from deck to a player
-     */
-    @Override
-    public void onCardDistributed(Player player, Card card) {
-        ImageView cardView = new ImageView(this);
-        cardView.setTag(card); // it seems that this method of setting tag to find cardView not workcardView.setImageResource(R.drawable.card_back);
-        cardViewMap.put(card, cardView);
-        cardView.setImageDrawable(ContextCompat.getDrawable(this, R.drawable.card_back));
-        if (player == gameLogic.getAlicePlayer() || player == gameLogic.getCharliePlayer()) {
-            LinearLayout.LayoutParams newParams = new LinearLayout.LayoutParams(cardHeight, cardWidth);
-            // Apply a negative margin to overlap the cards
-            if (player.getHand().size() - 1 > 0) {
-                newParams.setMargins(0, -(cardWidth * 3 / 4), 0, 0);
-            } else {
-                newParams.setMargins(0, 0, 0, 0);
-            }
-            cardView.setLayoutParams(newParams);
-            cardView.setRotation(90);
-        } else if (player == gameLogic.getBobPlayer()) {
-            LinearLayout.LayoutParams newParams = new LinearLayout.LayoutParams(cardWidth, cardHeight);
-            if (player.getHand().size() - 1 > 0) {
-                newParams.setMargins(-(cardWidth * 3 / 4), 0, 0, 0);
-            } else {
-                newParams.setMargins(0, 0, 0, 0);
-            }
-            cardView.setLayoutParams(newParams);
-        } else {
-            LinearLayout.LayoutParams params = new LinearLayout.LayoutParams(cardWidth, cardHeight);
-            if (gameLogic.getHumanPlayer().getHand().size() - 1 > 0) {
-                params.setMargins(-(cardWidth * 3 / 4), 0, 0, 0);
-            } else {
-                params.setMargins(0, 0, 0, 0);
-            }
-            cardView.setLayoutParams(params);
-        }
-        ViewGroup rootView = (ViewGroup) findViewById(android.R.id.content);  // Root layout of the activity
-        ViewGroup handView = handViews.get(player);
-        if (handView != null) {
-            animateCardToHand(cardView, handView, player.isHuman(), card, player, rootView);
-        }
-        gameLogic.cardIndex++;
-    }
-
-    /**
-     * show animation of a card move from deck to hand
-     * @param cardView the view of a card
-     * @param handView the view of a player hand
-     * @param isHumanPlayer true if it is human player
-     * @param card the card that is being distributed to player hand
-     * @param player the player who will get the card
-     * @param rootView the root of relative view of the app
-     */
-    private void animateCardToHand(final ImageView cardView, ViewGroup handView,
-                                   boolean isHumanPlayer, Card card, Player player, ViewGroup rootView) {
-
-        cardView.setX(screenWidthPx / 2); // X of deckLayout
-        cardView.setY(screenHeightPx / 2);  // Y of deckLayout
-        rootView.addView(cardView);  // Add the card to the root layout
-
-        float destinationX;
-        float destinationY;
-        // Calculate the final position of the card in the player's hand
-        if (player == gameLogic.getAlicePlayer()) {
-            destinationX = 30;  // instead of 0, should be 40 or 50
-            destinationY = screenHeightPx / 2 - cardWidth;  // middle point
-        } else if (player == gameLogic.getCharliePlayer()) {
-            destinationX = screenWidthPx - cardHeight;  // screenWidthPx is in pixel while 200 is in dp. Plus. width and height of card
-            destinationY = screenHeightPx / 2 - cardWidth;
-        } else if (player == gameLogic.getBobPlayer()) {
-            destinationX = screenWidthPx / 2 - cardWidth;
-            destinationY = 5;
-        } else {
-//            destinationX = screenWidthPx / 2 - 300 +  handCardIndex * (cardWidth * 3 / 4);  // Adjust for overlap
-            destinationX = screenWidthPx / 2 - cardWidth;
-            destinationY = screenHeightPx - cardHeight;
-        }
-        // Create animations to move the card to the hand
-        ObjectAnimator moveX = ObjectAnimator.ofFloat(cardView, "x", destinationX);
-        ObjectAnimator moveY = ObjectAnimator.ofFloat(cardView, "y", destinationY);
-
-        AnimatorSet moveSet = new AnimatorSet();
-        moveSet.playTogether(moveX, moveY);
-        moveSet.setDuration(2 * ANIMATION_DURATION);
-        moveSet.start();
-        moveSet.setStartDelay(gameLogic.cardIndex * ANIMATION_DURATION);
-
-        if (isHumanPlayer) {
-            // If it's the human player, apply a flip animation when the card reaches the hand
-            moveSet.addListener(new AnimatorListenerAdapter() {
-                @Override
-                public void onAnimationEnd(Animator animation) {
-                    applyFlipAnimation(cardView, card);
-                    rootView.removeView(cardView);
-                    handView.addView(cardView);
-                    cardView.setX(0);  // Reset X to be inside the handView
-                    cardView.setY(0);
-                }
-            });
-        } else {
-            // For bots, just add the card without flipping
-            moveSet.addListener(new AnimatorListenerAdapter() {
-                @Override
-                public void onAnimationEnd(Animator animation) {
-                    rootView.removeView(cardView);
-                    handView.addView(cardView);
-                    cardView.setX(0);  // Reset X to be inside the handView
-                    cardView.setY(0);
-                }
-            });
-        }
-
-    }
-
-    /**
-     *  Method to apply a flip animation to the card when it reaches the human player's hand
-     * @param cardView view of a flipping card
-     * @param card the card that will be flipped on human hand
-     */
-    private void applyFlipAnimation(final ImageView cardView, Card card) {
-        ObjectAnimator flip1 = ObjectAnimator.ofFloat(cardView, "scaleX", 1f, 0f);  // Flip to "invisible" side
-        flip1.setDuration(250);  // Half of the total flip duration
-
-        flip1.addListener(new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationEnd(Animator animation) {
-                // Change the card's image to reveal the front after the first half of the flip
-                @SuppressLint("DiscouragedApi") int resId = getResources().getIdentifier(card.getImageName(), "drawable", getPackageName());
-                cardView.setImageResource(resId);
-                // Flip back to visible side
-                ObjectAnimator flip2 = ObjectAnimator.ofFloat(cardView, "scaleX", 0f, 1f);
-                flip2.setDuration(250);  // Second half of the flip duration
-                flip2.start();
-            }
-        });
-        flip1.start();  // Start the first half of the flip
-    }
-
-    /**
-     * show animation of transferring cards from one hand to another hand
-     * @param askedPlayer the player that will give cards
-     * @param askingPlayer the player who will receive cards
-     * @param cardsTrasnfered all cards that will be in transfer
-     */
-    public void transferCardAnimation(Player askedPlayer, Player askingPlayer, List<Card> cardsTrasnfered) {
-        ViewGroup sourceHand = handViews.get(askedPlayer);
-        ViewGroup targetHand = handViews.get(askingPlayer);
-        ViewGroup rootView = (ViewGroup) findViewById(android.R.id.content);
-        targetHand.removeAllViews();
-
-        AnimatorSet animatorSet = new AnimatorSet();
-        List<Animator> animations = new ArrayList<>();
-        ArrayList<ImageView> cardViews = new ArrayList<ImageView>();
-        animatedCardViewList.clear();
-
-        for (int i = 0; i < cardsTrasnfered.size(); i++) {
-//            getCardViewFromHand(card, sourceHand);
-            Card card = cardsTrasnfered.get(i);
-            ImageView cardView = cardViewMap.get(card);
-            if (askingPlayer.isHuman()) {
-                @SuppressLint("DiscouragedApi") int resId = getResources().getIdentifier(card.getImageName(), "drawable", getPackageName());
-                cardView.setImageResource(resId);
-            }
-            if (askedPlayer.isHuman()) {
-                cardView.setImageDrawable(ContextCompat.getDrawable(this, R.drawable.card_back));
-            }
-            cardView.setRotation(0);
-            cardViews.add(cardView);
-            if (cardView != null) {
-                ImageView animatedCardView = new ImageView(this);
-                @SuppressLint("DiscouragedApi") int resId = getResources().getIdentifier(card.getImageName(), "drawable", getPackageName());
-                animatedCardView.setImageResource(resId);
-                animatedCardView.setLayoutParams(new LinearLayout.LayoutParams(cardView.getLayoutParams().width, cardView.getLayoutParams().height));
-
-                int[] location = new int[2];
-                cardView.getLocationOnScreen(location);
-                animatedCardView.setX(location[0]);
-                animatedCardView.setY(location[1]);
-
-                sourceHand.removeView(cardView);
-                rootView.addView(animatedCardView);
-                animatedCardViewList.add(animatedCardView);
-
-                int[] targetPosition = new int[2];
-                targetHand.getLocationOnScreen(targetPosition);
-
-                ObjectAnimator moveX = null;
-                ObjectAnimator moveY = null;
-                float destinationX;
-                float destinationY;
-                if (askingPlayer.isHuman()) {
-                    destinationX = screenWidthPx / 2 - cardWidth + i * cardWidth;
-                    destinationY = screenHeightPx - cardHeight;
-                    moveX = ObjectAnimator.ofFloat(animatedCardView, "x", destinationX);
-                    moveY = ObjectAnimator.ofFloat(animatedCardView, "y", destinationY);
-                } else {
-                    moveX = ObjectAnimator.ofFloat(animatedCardView, "x", targetPosition[0]);
-                    moveY = ObjectAnimator.ofFloat(animatedCardView, "y", targetPosition[1]);
-                }
-
-                animations.add(moveX);
-                animations.add(moveY);
-            }
-        }
-        animatorSet.playTogether(animations);
-        animatorSet.setDuration(2 * ANIMATION_DURATION);  // 1-second animation duration for all cards
-        animatorSet.start();
-
-        animatorSet.addListener(new AnimatorListenerAdapter() {
-            @Override
-
-            public void onAnimationEnd(Animator animation) {
-                // Remove the card views from the source hand and add them to the target hand
-                for (ImageView cardView : cardViews) {
-                    if (cardView != null) {
-//                        sourceHand.removeView(cardView);
-//                        rootView.removeView(cardView);
-//                        targetHand.addView(cardView);
-//                        cardView.setX(0);
-//                        cardView.setY(0);
-                    }
-                }
-                for (int i = 0; i < animatedCardViewList.size(); i++) {
-                    rootView.removeView(animatedCardViewList.get(i));
-                }
-                if (askingPlayer.isHuman()) {
-                    updateHumanHandView();
-                    updateBotHandView(askedPlayer);
-//                    playerHandView.setVisibility(View.INVISIBLE);
-                } else if (askedPlayer.isHuman()) {
-                    updateHumanHandView();
-                    updateBotHandView(askingPlayer);
-                } else {
-                    updateBotHandView(askedPlayer);
-                    updateBotHandView(askingPlayer);
-                }
-            }
-
-        });
-
-    }
-
-    /**
-     * show animation when a player collects a set of 4 cars with same rank. It also updates score board
-     * @param scoringPlayer the player who get 1 point
-     * @param collectedCards a set of cards with same rank
-     */
-    public void scorePoint(Player scoringPlayer, ArrayList<Card> collectedCards) {
-        ViewGroup scoringHand = handViews.get(scoringPlayer);
-//        int[] deckPosition = new int[2];
-//        deckLayout.getLocationOnScreen(deckPosition);
-        ViewGroup rootView = (ViewGroup) findViewById(android.R.id.content);
-
-        DisplayMetrics displayMetrics = new DisplayMetrics();
-        getWindowManager().getDefaultDisplay().getMetrics(displayMetrics);
-        int screenWidthPx = displayMetrics.widthPixels;
-        int screenHeightPx = displayMetrics.heightPixels;
-
-        AnimatorSet animatorSet = new AnimatorSet();
-        List<Animator> animations = new ArrayList<>();
-        ArrayList<ImageView> cardViews = new ArrayList<>();
-        ArrayList<ImageView> animatedCardViewList = new ArrayList<>();
-
-        for (int i = 0; i < collectedCards.size(); i++) {
-//            getCardViewFromHand(aCard, scoringHand);
-            Card aCard = collectedCards.get(i);
-            ImageView tempCardView = cardViewMap.get(aCard);
-            cardViews.add(tempCardView);
-
-            ImageView animatedCardView = new ImageView(this);
-            @SuppressLint("DiscouragedApi") int resId = getResources().getIdentifier(aCard.getImageName(), "drawable", getPackageName());
-            animatedCardView.setImageResource(resId);
-            animatedCardView.setLayoutParams(new LinearLayout.LayoutParams(tempCardView.getWidth(), tempCardView.getHeight()));
-            if (scoringPlayer == gameLogic.getCharliePlayer() || scoringPlayer == gameLogic.getAlicePlayer()) {
-//                animatedCardView.setRotation(90);
-            }
-
-            float sourceX;
-            float sourceY;
-            // Calculate the final position of the card in the player's hand
-            if (scoringPlayer == gameLogic.getAlicePlayer()) {
-                sourceX = 30 + i * cardWidth;  // instead of 0, should be 40 or 50
-                sourceY = screenHeightPx / 2;
-//                sourceY = screenHeightPx / 2 -  cardWidth + i * tempCardView.getLayoutParams().width ;  // cardWidth is different from param
-//                cardWidth ;
-                // tempCardView.getLayoutParams().width
-//              tempCardView.getWidth();
-            } else if (scoringPlayer == gameLogic.getCharliePlayer()) {
-                sourceX = screenWidthPx - cardHeight - i * cardWidth;
-                sourceY = screenHeightPx / 2;
-//                sourceY = screenHeightPx / 2 -  cardWidth + i * tempCardView.getLayoutParams().width;
-            } else if (scoringPlayer == gameLogic.getBobPlayer()) {
-                sourceX = screenWidthPx / 2 -  cardWidth + i * cardWidth;
-                sourceY = 5;
-            } else {
-//            destinationX = screenWidthPx / 2 - 300 +  handCardIndex * (cardWidth * 3 / 4);  // Adjust for overlap
-                sourceX = screenWidthPx / 2 -  cardWidth + i * cardWidth;
-                sourceY = screenHeightPx - 2 * cardHeight;
-            }
-            animatedCardView.setX(sourceX);
-            animatedCardView.setY(sourceY);
-
-            animatedCardViewList.add(animatedCardView);
-            rootView.addView(animatedCardView);
-
-            int[] deckPosition = new int[2];
-            deckLayout.getLocationOnScreen(deckPosition);
-
-            //  HANDVIEW ALREADY HAVE  CARDVIEW
-            ObjectAnimator moveX = null;
-            ObjectAnimator moveY = null;
-            if (scoringPlayer.isHuman()) {
-                moveX = ObjectAnimator.ofFloat(animatedCardView, "x", sourceX);
-                moveY = ObjectAnimator.ofFloat(animatedCardView, "y", deckPosition[1]);
-            } else if (scoringPlayer == gameLogic.getBobPlayer()) {
-                moveX = ObjectAnimator.ofFloat(animatedCardView, "x", sourceX);
-                moveY = ObjectAnimator.ofFloat(animatedCardView, "y", deckPosition[1]);
-            } else if (scoringPlayer == gameLogic.getAlicePlayer()) {
-                moveX = ObjectAnimator.ofFloat(animatedCardView, "x", deckPosition[0] + i * cardWidth);
-                moveY = ObjectAnimator.ofFloat(animatedCardView, "y", sourceY);
-            } else if (scoringPlayer == gameLogic.getCharliePlayer()) {
-                moveX = ObjectAnimator.ofFloat(animatedCardView, "x", deckPosition[0] - i * cardWidth);
-                moveY = ObjectAnimator.ofFloat(animatedCardView, "y", sourceY);
-            }
-            if (moveX != null && moveY != null) {
-                animations.add(moveX);
-                animations.add(moveY);
-            }
-        }
-        animatorSet.playTogether(animations);
-        animatorSet.setDuration(4 * ANIMATION_DURATION);  // Set the duration for all animations
-        animatorSet.start();
-//        for (ImageView tempCardView : cardViews ) {
-//            scoringHand.removeView(tempCardView);
-//        }
-
-        // After the animation completes, update the UI
-        animatorSet.addListener(new AnimatorListenerAdapter() {
-            @Override
-            public void onAnimationEnd(Animator animation) {
-                for (ImageView animatedCardView : animatedCardViewList) {
-                    rootView.removeView(animatedCardView);
-                }
-                for (ImageView tempCardView : cardViews) {
-                    scoringHand.removeView(tempCardView);
-                }
-            }
-        });
-    }
-
-    /**
-     * Give a status in text to tell human player what actions taken and results of each turn of human and bot
-     * @param askingPlayer the player who is asking
-     * @param requestSuccess true if a player successfully take cards from another player. Otherwise, false
-     * @param rankAsked the player is being asked
-     * @param target the card rank that a player is aksing
-     * @param numberOfCards number of cards are given from one player to another player
-     * @param score true if a set has been collected. Otherwise return false
-     */
-    public void requestResult(Player askingPlayer, boolean requestSuccess, String rankAsked, Player target,
-                              int numberOfCards, boolean score) {
-        String message = askingPlayer.getName() + " asked " + target.getName() + " about rank " + rankAsked + ". ";
-        if (requestSuccess == false) {
-            message += "\n" + target.getName() + " does not have " + rankAsked + ". " + askingPlayer.getName() + " draws a card. Turn is over";
-        } else {
-            message += "\n" + target.getName() + " has " + numberOfCards + " rank " + rankAsked +  ". " + askingPlayer.getName() + " continues turn.";
-        }
-        statusText.setText(message);
-    }
-
-//    private void playVideo() {
-//        // Set the video source from raw resources
-//        String videoPath = "android.resource://" + getPackageName() + "/" + R.raw.baka;
-//        Uri uri = Uri.parse(videoPath);
-//        videoView.setVideoURI(uri);
-//
-//        // Show the VideoView and Next button
-//        videoView.setVisibility(View.VISIBLE);
-//
-//        // Start the video
-//        videoView.start();
-//
-//        // Hide the video and button when the video ends
-//        videoView.setOnCompletionListener(new MediaPlayer.OnCompletionListener() {
-//            @Override
-//            public void onCompletion(MediaPlayer mp) {
-//                stopAndHideVideo();
-//            }
-//        });
-//    }
-//
-//    private void stopAndHideVideo() {
-//        // Stop the video playback and release resources
-//        if (videoView.isPlaying()) {
-//            videoView.stopPlayback(); // Stops video playback and releases resources
-//        }
-//        videoView.setVisibility(View.GONE); // Hide the VideoView when not in use
-//    }
 }
-
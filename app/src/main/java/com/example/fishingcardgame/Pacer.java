@@ -0,0 +1,103 @@
+package com.example.fishingcardgame;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+/**
+ * The Pacer tells when the table is ready for the next step: once every animation of the step
+ * shown last has ended, and the step has been on screen for at least the minimum display time.
+ * All methods are called on the main thread.
+ */
+class Pacer {
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private long minDisplayMillis;
+    private Runnable onReady;
+    private int pending;  // animations still running, plus one until the step is fully shown
+    private int step;  // counts steps, so animations of an earlier step are not counted
+    private long shownAt;
+    private final Runnable ready = new Runnable() {
+        @Override
+        public void run() {
+            Runnable onReady = Pacer.this.onReady;
+            Pacer.this.onReady = null;
+            if (onReady != null) {
+                onReady.run();
+            }
+        }
+    };
+
+    /**
+     * Create a pacer
+     * @param minDisplayMillis least time a step stays on screen before the next one, or 0
+     */
+    Pacer(long minDisplayMillis) {
+        this.minDisplayMillis = minDisplayMillis;
+    }
+
+    /**
+     * Set the least time a step stays on screen before the next one
+     * @param minDisplayMillis the time, or 0 to only wait for the animations
+     */
+    void setMinDisplayMillis(long minDisplayMillis) {
+        this.minDisplayMillis = minDisplayMillis;
+    }
+
+    /**
+     * Start showing a step. Animations of the step are added with track(), and shown() is called
+     * once all of them have started
+     * @param onReady run when the step is done, unless another step begins first
+     */
+    void begin(Runnable onReady) {
+        handler.removeCallbacks(ready);
+        step++;
+        pending = 1;
+        shownAt = SystemClock.uptimeMillis();
+        this.onReady = onReady;
+    }
+
+    /**
+     * Wait for one more animation of the current step
+     * @return to run when the animation has ended
+     */
+    Runnable track() {
+        pending++;
+        final int trackedStep = step;
+        return new Runnable() {
+            @Override
+            public void run() {
+                if (trackedStep == step) {
+                    release();
+                }
+            }
+        };
+    }
+
+    /**
+     * Report that every animation of the current step has been added
+     */
+    void shown() {
+        release();
+    }
+
+    /**
+     * Check if the last step is done
+     * @return true if nothing is shown or waited for
+     */
+    boolean isReady() {
+        return onReady == null;
+    }
+
+    private void release() {
+        pending--;
+        if (pending > 0) {
+            return;
+        }
+        long wait = shownAt + minDisplayMillis - SystemClock.uptimeMillis();
+        if (wait > 0) {
+            handler.postDelayed(ready, wait);
+        } else {
+            ready.run();
+        }
+    }
+}
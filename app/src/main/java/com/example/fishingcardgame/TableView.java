@@ -0,0 +1,537 @@
+package com.example.fishingcardgame;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.Choreographer;
+import android.view.View;
+
+import java.util.ArrayList;
+
+/**
+ * The TableView draws the whole table on one Canvas: the four hands, the deck in the middle and
+ * the cards moving between them. Hands are bitmasks of card ordinals, drawn in ordinal order, so
+ * they are always sorted by rank. Seat 0 (the human) sits at the bottom with its cards face up;
+ * seats 1, 2 and 3 sit left, top and right with their cards face down, the side hands turned
+ * sideways.
+ *
+ * Cards moved with moveCards() leave their hand at once, fly to their slot in the new hand and
+ * are only added to it when they land. While cards are on their way, the slots they will take
+ * are already kept free, so the rest of the hand does not jump when they arrive. All cards in
+ * flight are moved by one Choreographer frame callback, which invalidates the view once a frame.
+ */
+public class TableView extends View {
+    /** The deck in the middle of the table: where dealt and drawn cards come from and sets go */
+    public static final int DECK = TurnResult.DECK;
+
+    private static final int SEATS = 4;
+    private static final int BOTTOM = 0;
+    private static final int LEFT = 1;
+    private static final int TOP = 2;
+    private static final int RIGHT = 3;
+
+    private final long[] hands = new long[SEATS];  // cards shown in each hand
+    private final long[] incoming = new long[SEATS];  // cards on their way to each hand
+    private final ArrayList<FlyingCard> flying = new ArrayList<>();
+    private final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            frameScheduled = false;
+            advance(frameTimeNanos / 1_000_000L);
+        }
+    };
+    private boolean frameScheduled = false;
+    private long lastFrameMillis = -1;  // time of the last animated frame, -1 when idle
+    private float framePeriodMillis = 1000 / 60f;
+    private final Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final RectF cardRect = new RectF();
+    private final float margin;
+    private final float sideHandOffset;
+
+    private CardBitmapCache bitmaps;
+    private int cardWidth;
+    private int cardHeight;
+    private boolean deckVisible = true;
+    private GameMetrics.Histogram animationMillis;
+    private GameMetrics.Histogram drawMicros;
+    private GameMetrics.Counter frames;
+    private GameMetrics.Counter droppedFrames;
+
+    public TableView(Context context) {
+        this(context, null);
+    }
+
+    public TableView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        margin = dp(4);
+        // The side hands hang below the name labels of Alice and Charlie
+        sideHandOffset = dp(24);
+    }
+
+    private float dp(float value) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, value, getResources().getDisplayMetrics());
+    }
+
+    /**
+     * Set the card images and the size cards are drawn at
+     * @param bitmaps the bitmaps of the cards, decoded at width x height
+     * @param width width of a card in pixels
+     * @param height height of a card in pixels
+     */
+    public void setCardBitmaps(CardBitmapCache bitmaps, int width, int height) {
+        this.bitmaps = bitmaps;
+        this.cardWidth = width;
+        this.cardHeight = height;
+        invalidate();
+    }
+
+    /**
+     * Measure the animations and the drawing of the table from now on
+     * @param metrics the metrics to record to
+     */
+    public void setMetrics(GameMetrics metrics) {
+        animationMillis = metrics.histogram("table.animation_ms");
+        drawMicros = metrics.histogram("table.draw_us");
+        frames = metrics.counter("table.animated_frames");
+        droppedFrames = metrics.counter("table.dropped_frames");
+    }
+
+    /**
+     * Show a hand, e.g. after a round starts or the game is restored
+     * @param seat seat of the hand
+     * @param cards bitmask of the cards in the hand
+     */
+    public void setHand(int seat, long cards) {
+        // Cards still flying to the hand are added when they land
+        hands[seat] = cards & ~incoming[seat];
+        invalidate();
+    }
+
+    /**
+     * Get the cards shown in a hand, not counting cards on their way to it
+     * @param seat seat of the hand
+     * @return bitmask of the cards shown
+     */
+    public long getHand(int seat) {
+        return hands[seat];
+    }
+
+    public void setDeckVisible(boolean deckVisible) {
+        this.deckVisible = deckVisible;
+        invalidate();
+    }
+
+    /**
+     * Check if any card is moving
+     * @return true while cards are on their way
+     */
+    public boolean isAnimating() {
+        return !flying.isEmpty();
+    }
+
+    /**
+     * Move cards from a hand or the deck to another hand or the deck. Each card joins its new hand
+     * as soon as it lands
+     * @param cards bitmask of the cards to move
+     * @param from seat the cards leave, or DECK
+     * @param to seat the cards go to, or DECK, where they disappear
+     * @param delayMillis time before the cards start moving
+     * @param durationMillis time the cards take to get there
+     * @param onEnd run once all cards have arrived, or null
+     */
+    public void moveCards(long cards, int from, int to, long delayMillis, long durationMillis, Runnable onEnd) {
+        Move move = new Move(false, onEnd);
+        long fromLayout = from == DECK ? 0L : hands[from] | incoming[from];
+        for (long bits = cards; bits != 0; bits &= bits - 1) {
+            Card card = Card.of(Long.numberOfTrailingZeros(bits));
+            flying.add(newFlyingCard(move, card, from, fromLayout, to, delayMillis, durationMillis));
+        }
+        if (move.pending == 0 && onEnd != null) {
+            post(onEnd);  // Nothing to move
+        }
+        scheduleFrame();
+    }
+
+    /**
+     * Start a batch of moves that share one clock, e.g. the deal
+     * @param staggerMillis time between two cards of the batch setting off
+     * @param durationMillis time each card takes to get there
+     * @return the batch, to add cards to and then start
+     */
+    public Batch newBatch(long staggerMillis, long durationMillis) {
+        return new Batch(staggerMillis, durationMillis);
+    }
+
+    /**
+     * Drop all cards in flight and clear every hand. Moves cut short this way still report
+     * their end
+     */
+    public void clear() {
+        for (int i = 0; i < flying.size(); i++) {
+            Move move = flying.get(i).move;
+            if (move.onEnd != null) {
+                post(move.onEnd);
+                move.onEnd = null;
+            }
+        }
+        flying.clear();
+        for (int seat = 0; seat < SEATS; seat++) {
+            hands[seat] = 0L;
+            incoming[seat] = 0L;
+        }
+        invalidate();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        if (getDisplay() != null) {
+            framePeriodMillis = 1000 / getDisplay().getRefreshRate();
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        Choreographer.getInstance().removeFrameCallback(frameCallback);
+        frameScheduled = false;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (bitmaps == null) {
+            return;
+        }
+        long start = drawMicros != null ? System.nanoTime() : 0;
+        if (deckVisible) {
+            drawCard(canvas, bitmaps.back(), getWidth() / 2f, getHeight() / 2f, 0);
+        }
+        for (int seat = 0; seat < SEATS; seat++) {
+            long layout = hands[seat] | incoming[seat];
+            for (long bits = hands[seat]; bits != 0; bits &= bits - 1) {
+                int ordinal = Long.numberOfTrailingZeros(bits);
+                Bitmap bitmap = seat == BOTTOM ? bitmaps.face(Card.of(ordinal)) : bitmaps.back();
+                drawCard(canvas, bitmap, slotX(seat, layout, ordinal), slotY(seat, layout, ordinal), rotation(seat));
+            }
+        }
+        for (int i = 0; i < flying.size(); i++) {
+            FlyingCard card = flying.get(i);
+            if (card.placed) {
+                drawCard(canvas, card.faceUp ? bitmaps.face(card.card) : bitmaps.back(), card.x, card.y, card.rotation);
+            }
+        }
+        if (drawMicros != null) {
+            drawMicros.record((System.nanoTime() - start) / 1000);
+        }
+    }
+
+    private FlyingCard newFlyingCard(Move move, Card card, int from, long fromLayout, int to,
+                                     long delayMillis, long durationMillis) {
+        long bit = 1L << card.ordinal();
+        if (from != DECK) {
+            // A card still on its way to the hand it leaves will not be added to it
+            hands[from] &= ~bit;
+            incoming[from] &= ~bit;
+        }
+        if (to != DECK) {
+            incoming[to] |= bit;
+        }
+        move.pending++;
+        FlyingCard flyingCard = new FlyingCard(card, move, from, fromLayout, to, delayMillis, durationMillis);
+        // Only the human sees the faces, so cards to or from the human hand are shown face up
+        flyingCard.faceUp = from == BOTTOM || to == BOTTOM || to == DECK;
+        return flyingCard;
+    }
+
+    private void scheduleFrame() {
+        if (!frameScheduled) {
+            frameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(frameCallback);
+        }
+    }
+
+    /**
+     * Move every card in flight to where it is at this frame. This is the only animation loop of
+     * the table: all cards are timed against the same frame time and the view is invalidated once
+     */
+    private void advance(long frameMillis) {
+        if (getWidth() == 0) {
+            // Wait for the first layout, so the cards know where they are going
+            scheduleFrame();
+            return;
+        }
+        countFrame(frameMillis);
+        for (int i = 0; i < flying.size(); i++) {
+            FlyingCard card = flying.get(i);
+            if (card.start < 0) {
+                card.start = frameMillis + card.delay;
+            }
+            float t = card.duration <= 0 ? 1 : (float) (frameMillis - card.start) / card.duration;
+            if (t < 0) {
+                continue;  // still waiting on the deck
+            }
+            if (!card.placed) {
+                place(card);
+                if (card.move.startedAt < 0) {
+                    card.move.startedAt = frameMillis;
+                }
+            }
+            if (t >= 1) {
+                arrive(card, frameMillis);
+                if (!card.move.together) {
+                    land(card);
+                    flying.remove(i--);
+                }
+                continue;
+            }
+            // Ease out, so cards slow down as they reach the hand
+            float eased = 1 - (1 - t) * (1 - t);
+            card.x = card.fromX + (card.toX - card.fromX) * eased;
+            card.y = card.fromY + (card.toY - card.fromY) * eased;
+            card.rotation = card.fromRotation + (card.toRotation - card.fromRotation) * eased;
+        }
+        // Batches join their hands all at once, when their last card has arrived
+        for (int i = 0; i < flying.size(); i++) {
+            FlyingCard card = flying.get(i);
+            if (card.move.together && card.move.pending == 0) {
+                land(card);
+                flying.remove(i--);
+            }
+        }
+        invalidate();
+        if (!flying.isEmpty()) {
+            scheduleFrame();
+        } else {
+            lastFrameMillis = -1;
+        }
+    }
+
+    /**
+     * Count an animated frame, and the frames missed since the one before
+     */
+    private void countFrame(long frameMillis) {
+        if (frames == null) {
+            return;
+        }
+        frames.add(1);
+        if (lastFrameMillis >= 0) {
+            long missed = Math.round((frameMillis - lastFrameMillis) / framePeriodMillis) - 1;
+            if (missed > 0) {
+                droppedFrames.add(missed);
+            }
+        }
+        lastFrameMillis = frameMillis;
+    }
+
+    /**
+     * Work out where a card flies from and to once it starts moving, when the view has its size
+     * and the hand it goes to has made room for everything on its way
+     */
+    private void place(FlyingCard card) {
+        int ordinal = card.card.ordinal();
+        if (card.from == DECK) {
+            card.fromX = getWidth() / 2f;
+            card.fromY = getHeight() / 2f;
+        } else {
+            card.fromX = slotX(card.from, card.fromLayout, ordinal);
+            card.fromY = slotY(card.from, card.fromLayout, ordinal);
+        }
+        card.fromRotation = card.from == DECK ? 0 : rotation(card.from);
+        if (card.to == DECK) {
+            card.toX = getWidth() / 2f;
+            card.toY = getHeight() / 2f;
+        } else {
+            long layout = hands[card.to] | incoming[card.to];
+            card.toX = slotX(card.to, layout, ordinal);
+            card.toY = slotY(card.to, layout, ordinal);
+        }
+        card.toRotation = card.to == DECK ? 0 : rotation(card.to);
+        card.x = card.fromX;
+        card.y = card.fromY;
+        card.rotation = card.fromRotation;
+        card.placed = true;
+    }
+
+    /**
+     * Mark a card as arrived, parking it on its slot, and report the move done after its last card
+     */
+    private void arrive(FlyingCard card, long frameMillis) {
+        card.x = card.toX;
+        card.y = card.toY;
+        card.rotation = card.toRotation;
+        if (card.arrived) {
+            return;
+        }
+        card.arrived = true;
+        Move move = card.move;
+        move.pending--;
+        if (move.pending == 0 && animationMillis != null) {
+            animationMillis.record(frameMillis - move.startedAt);
+        }
+        if (move.pending == 0 && move.onEnd != null) {
+            // Let the listener change the table outside of the frame callback
+            post(move.onEnd);
+            move.onEnd = null;
+        }
+    }
+
+    private void land(FlyingCard card) {
+        long bit = 1L << card.card.ordinal();
+        if (card.to != DECK && (incoming[card.to] & bit) != 0) {
+            incoming[card.to] &= ~bit;
+            hands[card.to] |= bit;
+        }
+    }
+
+    private void drawCard(Canvas canvas, Bitmap bitmap, float centerX, float centerY, float degrees) {
+        canvas.save();
+        canvas.translate(centerX, centerY);
+        if (degrees != 0) {
+            canvas.rotate(degrees);
+        }
+        cardRect.set(-cardWidth / 2f, -cardHeight / 2f, cardWidth / 2f, cardHeight / 2f);
+        canvas.drawBitmap(bitmap, null, cardRect, paint);
+        canvas.restore();
+    }
+
+    private static float rotation(int seat) {
+        return seat == LEFT || seat == RIGHT ? 90 : 0;
+    }
+
+    /**
+     * Get the distance between two cards of a hand, overlapping them more as the hand grows
+     */
+    private float step(int seat, int count) {
+        boolean sideways = seat == LEFT || seat == RIGHT;
+        float base = seat == BOTTOM ? cardWidth / 2f : cardWidth * 3 / 8f;
+        float room = (sideways ? getHeight() / 2f - sideHandOffset : getWidth() * 2 / 3f) - cardWidth;
+        if (count <= 1) {
+            return base;
+        }
+        return Math.min(base, room / (count - 1));
+    }
+
+    /**
+     * Get the position of a card along its hand, from the centre of the hand
+     */
+    private float offset(int seat, long layout, int ordinal) {
+        int count = Long.bitCount(layout);
+        int index = Long.bitCount(layout & ((1L << ordinal) - 1));
+        return (index - (count - 1) / 2f) * step(seat, count);
+    }
+
+    private float slotX(int seat, long layout, int ordinal) {
+        switch (seat) {
+            case LEFT:
+                return margin + cardHeight / 2f;
+            case RIGHT:
+                return getWidth() - margin - cardHeight / 2f;
+            default:
+                return getWidth() / 2f + offset(seat, layout, ordinal);
+        }
+    }
+
+    private float slotY(int seat, long layout, int ordinal) {
+        switch (seat) {
+            case TOP:
+                return margin + cardHeight / 2f;
+            case BOTTOM:
+                return getHeight() - margin - cardHeight / 2f;
+            default:
+                return getHeight() / 2f + sideHandOffset + offset(seat, layout, ordinal);
+        }
+    }
+
+    /**
+     * Cards added to the table in one go: the deal, or the cards of one request. The cards of a
+     * batch set off one after another and join their hands together once the last one arrives
+     */
+    public final class Batch {
+        private final long staggerMillis;
+        private final long durationMillis;
+        private final Move move = new Move(true, null);
+        private final ArrayList<FlyingCard> cards = new ArrayList<>();
+
+        private Batch(long staggerMillis, long durationMillis) {
+            this.staggerMillis = staggerMillis;
+            this.durationMillis = durationMillis;
+        }
+
+        /**
+         * Add a card; it sets off after the cards added before it
+         * @param card the card
+         * @param from seat the card leaves, or DECK
+         * @param to seat the card goes to, or DECK
+         */
+        public void add(Card card, int from, int to) {
+            long fromLayout = from == DECK ? 0L : hands[from] | incoming[from];
+            cards.add(newFlyingCard(move, card, from, fromLayout, to, cards.size() * staggerMillis, durationMillis));
+        }
+
+        /**
+         * Set the cards off
+         * @param onEnd run once all cards have joined their hands, or null
+         */
+        public void start(Runnable onEnd) {
+            move.onEnd = onEnd;
+            if (cards.isEmpty()) {
+                if (onEnd != null) {
+                    post(onEnd);
+                }
+                return;
+            }
+            flying.addAll(cards);
+            scheduleFrame();
+        }
+    }
+
+    /**
+     * Cards moved together, which finish when the last of them arrives
+     */
+    private static final class Move {
+        final boolean together;  // join the hands all at once rather than card by card
+        Runnable onEnd;
+        int pending;
+        long startedAt = -1;  // frame time its first card set off
+
+        Move(boolean together, Runnable onEnd) {
+            this.together = together;
+            this.onEnd = onEnd;
+        }
+    }
+
+    /**
+     * A card on its way from one place on the table to another
+     */
+    private static final class FlyingCard {
+        final Card card;
+        final Move move;
+        final int from;
+        final long fromLayout;  // the hand the card left, as it was laid out then
+        final int to;
+        final long delay;
+        final long duration;
+        long start = -1;  // frame time the card sets off, fixed at its first frame
+        boolean faceUp;
+        boolean placed;
+        boolean arrived;
+        float fromX, fromY, fromRotation;
+        float toX, toY, toRotation;
+        float x, y, rotation;
+
+        FlyingCard(Card card, Move move, int from, long fromLayout, int to, long delay, long duration) {
+            this.card = card;
+            this.move = move;
+            this.from = from;
+            this.fromLayout = fromLayout;
+            this.to = to;
+            this.delay = delay;
+            this.duration = duration;
+        }
+    }
+}
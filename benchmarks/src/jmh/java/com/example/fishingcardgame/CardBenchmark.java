@@ -0,0 +1,47 @@
+package com.example.fishingcardgame;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmarks Card.RankComparator, both on single comparisons and when sorting a hand
+ */
+@State(Scope.Thread)
+public class CardBenchmark {
+    private final Card.RankComparator comparator = Card.RANK_COMPARATOR;
+    private Card low;
+    private Card high;
+    private List<Card> shuffledHand;
+    private List<Card> hand;
+
+    @Setup
+    public void setUp() {
+        low = Card.of("Hearts", "3");
+        high = Card.of("Spades", "Q");
+        shuffledHand = new ArrayList<>();
+        Deck deck = new Deck(new GameRandom(42));
+        deck.reset();
+        for (int i = 0; i < 13; i++) {
+            shuffledHand.add(deck.drawCard());
+        }
+        hand = new ArrayList<>(shuffledHand);
+    }
+
+    @Benchmark
+    public int compare() {
+        return comparator.compare(low, high);
+    }
+
+    @Benchmark
+    public List<Card> sortHand() {
+        Collections.copy(hand, shuffledHand);
+        Collections.sort(hand, comparator);
+        return hand;
+    }
+}
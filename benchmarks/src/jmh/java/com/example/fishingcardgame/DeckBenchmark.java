@@ -0,0 +1,32 @@
+package com.example.fishingcardgame;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks building a deck and shuffling it at the start of a round
+ */
+@State(Scope.Thread)
+public class DeckBenchmark {
+    private GameRandom random;
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        random = new GameRandom(42);
+        deck = new Deck(random);
+    }
+
+    @Benchmark
+    public Deck construct() {
+        return new Deck(random);
+    }
+
+    @Benchmark
+    public Deck shuffle() {
+        deck.reset();
+        return deck;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.fishingcardgame;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Benchmarks the Player methods that run on every turn, on a typical mid-round hand of 10 cards
+ */
+@State(Scope.Thread)
+public class PlayerBenchmark {
+    private Player player;
+    private String heldRank;
+    private String missingRank;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Deck deck = new Deck(new GameRandom(42));
+        deck.reset();
+        player = new Player("Alice");
+        deck.dealTo(player, 10);
+        heldRank = player.getHand().get(0).getRank();
+        for (String rank : Card.RANKS) {
+            if (!player.hasRank(rank)) {
+                missingRank = rank;
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> checkForSets() {
+        return player.checkForSets();
+    }
+
+    @Benchmark
+    public List<String> getValidRanks() {
+        return player.getValidRanks();
+    }
+
+    @Benchmark
+    public boolean hasRankHeld() {
+        return player.hasRank(heldRank);
+    }
+
+    @Benchmark
+    public boolean hasRankMissing() {
+        return player.hasRank(missingRank);
+    }
+
+    @Benchmark
+    public List<Card> sortHand() {
+        player.sortHand();
+        return player.getHand();
+    }
+
+    @Benchmark
+    public int giveCards() {
+        // Give the rank away and take it back so every invocation sees the same hand
+        List<Card> given = player.giveCards(heldRank);
+        player.addCards(given);
+        return given.size();
+    }
+}
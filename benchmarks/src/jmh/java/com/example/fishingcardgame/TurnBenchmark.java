@@ -0,0 +1,55 @@
+package com.example.fishingcardgame;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Benchmarks one full turn, including the human turn, against a GameListener that does nothing.
+ * A new round is dealt whenever the current one is over, which is included in the measurement.
+ * The game is played with 4 players and a growing number of decks
+ */
+@State(Scope.Thread)
+public class TurnBenchmark {
+    @Param({"1", "2", "4"})
+    public int decks;
+
+    private GameLogic game;
+
+    @Setup
+    public void setUp() {
+        game = new GameLogic(new NoOpGameListener(), 42L, new GameConfig(4, decks));
+        game.setupRound();
+    }
+
+    @Benchmark
+    public Player turn() {
+        if (game.getTotalRoundPoint() == game.getSetsPerRound()) {
+            game.setupRound();
+        }
+        if (game.prepareTurn()) {
+            Player player = game.currentPlayer;
+            if (player.isHuman()) {
+                game.humanTurn(firstTargetWithCards(), player.getHand().get(0).getRank());
+            } else {
+                game.botTurn(player);
+            }
+            game.removeCollectedSets();
+        }
+        return game.currentPlayer;
+    }
+
+    private Player firstTargetWithCards() {
+        List<Player> bots = game.getBotPlayers();
+        for (int i = 0; i < bots.size(); i++) {
+            if (bots.get(i).getHandSize() > 0) {
+                return bots.get(i);
+            }
+        }
+        return bots.get(0);
+    }
+}
@@ -0,0 +1,36 @@
+plugins {
+    `java-library`
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    testImplementation(libs.junit)
+}
+
+// Runs bot-vs-bot games headlessly, e.g. ./gradlew :core:simulate --args="1000000 8"
+tasks.register<JavaExec>("simulate") {
+    group = "application"
+    description = "Runs headless bot-vs-bot games and reports games/sec."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.fishingcardgame.GameSimulator")
+}
+
+// Compares bot strategies, e.g. ./gradlew :core:tournament --args="100000 8 1 random knowledge ismcts:20"
+tasks.register<JavaExec>("tournament") {
+    group = "application"
+    description = "Plays bot strategies against each other and reports win rates."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.fishingcardgame.Tournament")
+}
+
+// Shows a recorded game at any turn, e.g. ./gradlew :core:replay --args="events-0.bin 0 120"
+tasks.register<JavaExec>("replay") {
+    group = "application"
+    description = "Prints the state of a game from an event log at a given turn."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("com.example.fishingcardgame.GameReplay")
+}
@@ -0,0 +1,35 @@
+package com.example.fishingcardgame;
+
+/**
+ * The request a bot makes on its turn: which player it asks, and for which rank
+ */
+public final class BotMove {
+    private final Player target;
+    private final String rank;
+
+    public BotMove(Player target, String rank) {
+        this.target = target;
+        this.rank = rank;
+    }
+
+    /**
+     * Get the player that is asked
+     * @return the player that is asked
+     */
+    public Player getTarget() {
+        return target;
+    }
+
+    /**
+     * Get the rank that is asked for
+     * @return the rank that is asked for
+     */
+    public String getRank() {
+        return rank;
+    }
+
+    @Override
+    public String toString() {
+        return "ask " + target.getName() + " for " + rank;
+    }
+}
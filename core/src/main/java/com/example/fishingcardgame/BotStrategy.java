@@ -0,0 +1,18 @@
+package com.example.fishingcardgame;
+
+/**
+ * A BotStrategy decides whom a bot asks and for which rank. Strategies should only base the
+ * decision on what the bot can know: its own hand, the hand sizes of the other players, the
+ * deck size and the sets that have been collected
+ */
+public interface BotStrategy {
+
+    /**
+     * Choose the next request of a bot. Only called when the bot holds a card and
+     * at least one other player holds a card
+     * @param game the game being played
+     * @param bot the bot whose turn it is
+     * @return the player to ask and the rank to ask for
+     */
+    BotMove chooseMove(GameLogic game, Player bot);
+}
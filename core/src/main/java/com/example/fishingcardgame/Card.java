@@ -0,0 +1,179 @@
+package com.example.fishingcardgame;
+
+import java.util.Comparator;
+
+/**
+ * A playing card. There is exactly one Card instance for each of the 52 cards, obtained through
+ * Card.of(), so cards can be compared by reference and indexed by their ordinal
+ */
+public final class Card  {
+    public static final String[] SUITS = {"Clubs", "Diamonds", "Hearts", "Spades"};
+    public static final String[] RANKS = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A"};
+    public static final int DECK_SIZE = 52;
+
+    // Ordered by rank, then suit, so that ordinal == rankIndex * 4 + suitIndex
+    private static final Card[] CARDS = new Card[DECK_SIZE];
+
+    static {
+        for (int rankIndex = 0; rankIndex < RANKS.length; rankIndex++) {
+            for (int suitIndex = 0; suitIndex < SUITS.length; suitIndex++) {
+                CARDS[rankIndex * 4 + suitIndex] = new Card(suitIndex, rankIndex);
+            }
+        }
+    }
+
+    public static final RankComparator RANK_COMPARATOR = new RankComparator();
+
+    private final String suit;
+    private final String rank;
+    private final int rankIndex;
+    private final int suitIndex;
+    private final int ordinal;
+    private final String imageName;
+    public static int cardWidth = 60;
+    public static int cardHeight = 90;
+
+    private Card(int suitIndex, int rankIndex) {
+        this.suit = SUITS[suitIndex];
+        this.rank = RANKS[rankIndex];
+        this.suitIndex = suitIndex;
+        this.rankIndex = rankIndex;
+        this.ordinal = rankIndex * 4 + suitIndex;
+        this.imageName = "card_" + rank.toLowerCase() + "_of_" + suit.toLowerCase();
+    }
+
+    /**
+     * Get the card with an ordinal
+     * @param ordinal ordinal of the card, from 0 to 51
+     * @return the card
+     */
+    public static Card of(int ordinal) {
+        return CARDS[ordinal];
+    }
+
+    /**
+     * Get the card with a suit and a rank
+     * @param suit the suit, e.g. "Hearts"
+     * @param rank the rank, e.g. "10" or "Q"
+     * @return the card
+     */
+    public static Card of(String suit, String rank) {
+        return CARDS[rankToIndex(rank) * 4 + suitToIndex(suit)];
+    }
+
+    public static class RankComparator implements Comparator<Card> {
+        @Override
+        public int compare(Card card1, Card card2) {
+            return Integer.compare(card1.rankIndex, card2.rankIndex);  // Ascending order by rank
+        }
+    };
+
+    public String getSuit() {
+        return suit;
+    }
+
+    public String getRank() {
+        return rank;
+    }
+
+    /**
+     * Get the position of the rank in RANKS, from 0 for "2" to 12 for "A"
+     * @return index of the rank
+     */
+    public int getRankIndex() {
+        return rankIndex;
+    }
+
+    /**
+     * Get the position of the suit in SUITS
+     * @return index of the suit
+     */
+    public int getSuitIndex() {
+        return suitIndex;
+    }
+
+    /**
+     * Get the stable position of the card, which is also its bit in a hand bitmask.
+     * Each rank owns a 4-bit nibble, one bit per suit
+     * @return ordinal of the card, from 0 to 51
+     */
+    public int ordinal() {
+        return ordinal;
+    }
+
+    /**
+     * Convert a rank to its position in RANKS
+     * @param rank the rank, e.g. "10" or "Q"
+     * @return index of the rank, or -1 if the rank is unknown
+     */
+    public static int rankToIndex(String rank) {
+        switch (rank) {
+            case "2": return 0;
+            case "3": return 1;
+            case "4": return 2;
+            case "5": return 3;
+            case "6": return 4;
+            case "7": return 5;
+            case "8": return 6;
+            case "9": return 7;
+            case "10": return 8;
+            case "J": return 9;
+            case "Q": return 10;
+            case "K": return 11;
+            case "A": return 12;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Convert a position in RANKS back to the rank
+     * @param index index of the rank
+     * @return the rank, or null if the index is out of range
+     */
+    public static String indexToRank(int index) {
+        return index >= 0 && index < RANKS.length ? RANKS[index] : null;
+    }
+
+    private static int suitToIndex(String suit) {
+        switch (suit) {
+            case "Clubs": return 0;
+            case "Diamonds": return 1;
+            case "Hearts": return 2;
+            case "Spades": return 3;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Get the source name of image for the card
+     * @return the name of image source for the card
+     */
+    public String getImageName() {
+        return imageName;
+    }
+
+    @Override
+    public String toString() {
+        return rank + " of " + suit;
+    }
+
+    /**
+     * Get the card
+     * @return the card
+     */
+    public Card getCard() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // Cards are canonical, so only the same instance is the same card
+        return this == obj;
+    }
+
+    @Override
+    public int hashCode() {
+        return ordinal;
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.example.fishingcardgame;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * The Deck keeps all cards in one array and draws by moving a cursor, so no card is ever
+ * copied or removed. It may be made of several 52-card decks shuffled together, holding that
+ * many copies of each card. A new deck is in ordinal order, deck by deck, until it is shuffled
+ */
+public class Deck {
+    private final Card[] cards;
+    private final int decks;
+    private int top = 0;  // position of the next card to draw
+    private final GameRandom random;
+
+    public Deck() {
+        this(new GameRandom(new SplittableRandom().nextLong()));
+    }
+
+    /**
+     * Create a deck that shuffles with the given generator, e.g. one seeded per game
+     * @param random the generator used for shuffling
+     */
+    public Deck(GameRandom random) {
+        this(random, 1);
+    }
+
+    /**
+     * Create a deck of several 52-card decks that shuffles with the given generator
+     * @param random the generator used for shuffling
+     * @param decks number of 52-card decks
+     */
+    public Deck(GameRandom random, int decks) {
+        this.random = random;
+        this.decks = decks;
+        this.cards = new Card[Card.DECK_SIZE * decks];
+        for (int position = 0; position < cards.length; position++) {
+            cards[position] = Card.of(position % Card.DECK_SIZE);
+        }
+    }
+
+    /**
+     * Shuffle the cards left in the deck with a single Fisher-Yates pass
+     */
+    public void shuffle() {
+        for (int i = cards.length - 1; i > top; i--) {
+            int j = top + random.nextInt(i - top + 1);
+            Card temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+    }
+
+    /**
+     * Put all drawn cards back and shuffle the full deck
+     */
+    public void reset() {
+        top = 0;
+        shuffle();
+    }
+
+    public Card drawCard() {
+        if (top < cards.length) {
+            return cards[top++];
+        }
+        return null;
+    }
+
+    /**
+     * Deal the next cards of the deck to a player as one slice
+     * @param player the player who gets the cards
+     * @param count number of cards to deal
+     * @return position of the first dealt card, see getCard()
+     */
+    public int dealTo(Player player, int count) {
+        int first = top;
+        count = Math.min(count, cards.length - top);
+        player.addCards(cards, first, count);
+        top += count;
+        return first;
+    }
+
+    /**
+     * Get a card by its position in the current deck order, whether drawn or not
+     * @param position position of the card, from 0 to the number of cards less one
+     * @return the card at the position
+     */
+    public Card getCard(int position) {
+        return cards[position];
+    }
+
+    public int getSize() {
+        return cards.length - top;
+    }
+
+    public boolean isEmpty() {
+        return top == cards.length;
+    }
+
+    /**
+     * Write the order of the cards and the position of the next card to draw
+     * @param out where to write the deck to
+     * @throws IOException if the deck cannot be written
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeShort(cards.length);
+        out.writeShort(top);
+        for (Card card : cards) {
+            out.writeByte(card.ordinal());
+        }
+    }
+
+    /**
+     * Read a deck written by writeTo() for the same number of decks
+     * @param in where to read the deck from
+     * @throws IOException if the deck cannot be read or does not hold every card once per deck
+     */
+    void readFrom(DataInput in) throws IOException {
+        int length = in.readUnsignedShort();
+        if (length != cards.length) {
+            throw new IOException("Saved deck has " + length + " cards, not " + cards.length);
+        }
+        int position = in.readUnsignedShort();
+        Card[] order = new Card[cards.length];
+        int[] seen = new int[Card.DECK_SIZE];
+        for (int i = 0; i < order.length; i++) {
+            int ordinal = in.readUnsignedByte();
+            if (ordinal >= Card.DECK_SIZE || ++seen[ordinal] > decks) {
+                throw new IOException("Not a deck: card " + ordinal + " at " + i);
+            }
+            order[i] = Card.of(ordinal);
+        }
+        if (position > cards.length) {
+            throw new IOException("Not a deck: top at " + position);
+        }
+        System.arraycopy(order, 0, cards, 0, cards.length);
+        top = position;
+    }
+}
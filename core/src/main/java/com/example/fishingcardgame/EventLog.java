@@ -0,0 +1,179 @@
+package com.example.fishingcardgame;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * The EventLog appends every game event as a fixed-width 4-byte record (big-endian) to an output
+ * stream. Records are packed into a buffer and written out only when it is full, so recording an
+ * event costs a few array stores. A record is laid out as
+ * <pre>
+ *   bits 31-24  type
+ *   bits 23-20  actor seat
+ *   bits 19-16  target seat
+ *   bits 15-8   value: a card ordinal, a rank index or a round number
+ *   bits 7-0    count
+ * </pre>
+ * A GAME_START record holds the number of players and decks, and is followed by two raw records
+ * holding the high and low half of the seed.
+ */
+public class EventLog implements Closeable, Flushable {
+    /** A new game; value is the number of players, count the number of decks, followed by the seed as two raw records */
+    public static final int GAME_START = 1;
+    /** A new round; value is the round number, actor the first player */
+    public static final int ROUND_START = 2;
+    /** A card dealt at the start of a round; value is the card ordinal */
+    public static final int DEAL = 3;
+    /** A request; value is the rank index, count the number of cards handed over (0 on failure) */
+    public static final int ASK = 4;
+    /** A card drawn from the deck; value is the card ordinal */
+    public static final int DRAW = 5;
+    /** A collected set; value is the rank index */
+    public static final int SET = 6;
+    /** A turn skipped because the actor has no card and the deck is empty */
+    public static final int SKIP = 7;
+    /** A turn passed without a request because nobody else holds a card; a DRAW follows if the deck has one */
+    public static final int PASS = 8;
+
+    private static final int DEFAULT_BUFFER_RECORDS = 4096;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position = 0;
+
+    public EventLog(OutputStream out) {
+        this(out, DEFAULT_BUFFER_RECORDS);
+    }
+
+    /**
+     * Create a log
+     * @param out the stream the records are appended to
+     * @param bufferRecords number of records buffered before they are written out
+     */
+    public EventLog(OutputStream out, int bufferRecords) {
+        this.out = out;
+        this.buffer = new byte[bufferRecords * 4];
+    }
+
+    /**
+     * Append an event
+     * @param type type of the event, e.g. ASK
+     * @param actor seat of the player the event is about
+     * @param target seat of the other player involved, or 0
+     * @param value card ordinal, rank index or round number, depending on the type
+     * @param count number of cards, depending on the type
+     */
+    public void append(int type, int actor, int target, int value, int count) {
+        appendRaw(pack(type, actor, target, value, count));
+    }
+
+    /**
+     * Append the start of a game together with its size and seed
+     * @param seed the seed of the game
+     * @param players number of players
+     * @param decks number of decks
+     */
+    public void appendGameStart(long seed, int players, int decks) {
+        appendRaw(pack(GAME_START, 0, 0, players, decks));
+        appendRaw((int) (seed >>> 32));
+        appendRaw((int) seed);
+    }
+
+    private void appendRaw(int record) {
+        if (position == buffer.length) {
+            try {
+                writeBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        buffer[position] = (byte) (record >>> 24);
+        buffer[position + 1] = (byte) (record >>> 16);
+        buffer[position + 2] = (byte) (record >>> 8);
+        buffer[position + 3] = (byte) record;
+        position += 4;
+    }
+
+    private void writeBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+
+    public static int pack(int type, int actor, int target, int value, int count) {
+        return type << 24 | (actor & 0xF) << 20 | (target & 0xF) << 16 | (value & 0xFF) << 8 | (count & 0xFF);
+    }
+
+    public static int type(int record) {
+        return record >>> 24;
+    }
+
+    public static int actor(int record) {
+        return (record >>> 20) & 0xF;
+    }
+
+    public static int target(int record) {
+        return (record >>> 16) & 0xF;
+    }
+
+    public static int value(int record) {
+        return (record >>> 8) & 0xFF;
+    }
+
+    public static int count(int record) {
+        return record & 0xFF;
+    }
+
+    /**
+     * Get the seed of a game from the two records after its GAME_START record
+     * @param records the records of a log
+     * @param gameStart position of the GAME_START record
+     * @return the seed of the game
+     */
+    public static long seed(int[] records, int gameStart) {
+        return (long) records[gameStart + 1] << 32 | (records[gameStart + 2] & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Read all records of a log
+     * @param in the stream written by an EventLog
+     * @return the records in the order they were appended
+     */
+    public static int[] readAll(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        int[] records = new int[1024];
+        int size = 0;
+        while (true) {
+            int record;
+            try {
+                record = data.readInt();
+            } catch (EOFException e) {
+                break;
+            }
+            if (size == records.length) {
+                records = Arrays.copyOf(records, size * 2);
+            }
+            records[size++] = record;
+        }
+        return Arrays.copyOf(records, size);
+    }
+}
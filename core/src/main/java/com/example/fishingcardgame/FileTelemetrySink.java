@@ -0,0 +1,30 @@
+package com.example.fishingcardgame;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * A TelemetrySink that appends every event as a line to a local file. It stands in for an
+ * analytics service in tests
+ */
+public class FileTelemetrySink implements TelemetrySink {
+    private final File file;
+
+    public FileTelemetrySink(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public void send(List<TelemetryEvent> events) throws IOException {
+        try (Writer out = new BufferedWriter(new FileWriter(file, true))) {
+            for (TelemetryEvent event : events) {
+                out.write(event.toLine());
+                out.write('\n');
+            }
+        }
+    }
+}
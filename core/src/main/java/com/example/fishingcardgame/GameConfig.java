@@ -0,0 +1,110 @@
+package com.example.fishingcardgame;
+
+import java.util.List;
+
+/**
+ * The size of a game: how many players sit at the table and how many 52-card decks are shuffled
+ * together. Seat 0 is the human player and the others are bots. Every round starts one seat
+ * further on, so a game has as many rounds as players, and a round is over once all 13 sets of
+ * every deck are collected.
+ */
+public final class GameConfig {
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 8;
+    public static final int MAX_DECKS = 8;
+
+    /** The original game: the human and three bots with one deck */
+    public static final GameConfig DEFAULT = new GameConfig(4, 1);
+
+    private final int players;
+    private final int decks;
+
+    /**
+     * Create a configuration
+     * @param players number of players, from 2 to 8
+     * @param decks number of decks, from 1 to 8
+     * @throws IllegalArgumentException if a number is out of range
+     */
+    public GameConfig(int players, int decks) {
+        if (players < MIN_PLAYERS || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players must be from " + MIN_PLAYERS + " to " + MAX_PLAYERS + ": " + players);
+        }
+        if (decks < 1 || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("Decks must be from 1 to " + MAX_DECKS + ": " + decks);
+        }
+        this.players = players;
+        this.decks = decks;
+    }
+
+    /**
+     * Take the options "players=N" and "decks=M" out of command line arguments
+     * @param args the arguments; the options are removed from it
+     * @return the configuration, with the default for an option not given
+     * @throws IllegalArgumentException if a number is out of range
+     */
+    static GameConfig parseOptions(List<String> args) {
+        int players = DEFAULT.players;
+        int decks = DEFAULT.decks;
+        for (int i = args.size() - 1; i >= 0; i--) {
+            String arg = args.get(i);
+            if (arg.startsWith("players=")) {
+                players = Integer.parseInt(arg.substring("players=".length()));
+                args.remove(i);
+            } else if (arg.startsWith("decks=")) {
+                decks = Integer.parseInt(arg.substring("decks=".length()));
+                args.remove(i);
+            }
+        }
+        return new GameConfig(players, decks);
+    }
+
+    public int getPlayers() {
+        return players;
+    }
+
+    public int getDecks() {
+        return decks;
+    }
+
+    /**
+     * Get number of rounds in a game, one per player so everybody starts a round once
+     * @return number of rounds
+     */
+    public int getRounds() {
+        return players;
+    }
+
+    /**
+     * Get number of cards in the shuffled decks
+     * @return number of cards
+     */
+    public int getCardCount() {
+        return Card.DECK_SIZE * decks;
+    }
+
+    /**
+     * Get number of sets collected in a round, 13 per deck
+     * @return number of sets per round
+     */
+    public int getSetsPerRound() {
+        return Card.RANKS.length * decks;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof GameConfig)) {
+            return false;
+        }
+        return players == ((GameConfig) other).players && decks == ((GameConfig) other).decks;
+    }
+
+    @Override
+    public int hashCode() {
+        return players * 31 + decks;
+    }
+
+    @Override
+    public String toString() {
+        return players + " players, " + decks + (decks == 1 ? " deck" : " decks");
+    }
+}
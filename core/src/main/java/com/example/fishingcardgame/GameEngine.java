@@ -0,0 +1,718 @@
+package com.example.fishingcardgame;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The GameEngine runs a GameLogic on its own thread. Commands are queued and played one at a
+ * time in the order they were sent, and each one publishes a TurnResult to the listener on the
+ * callback executor, e.g. the main thread. Nothing else touches the game, so bots may take as
+ * long as they need to think without holding up the UI.
+ *
+ * The game moves through explicit states: a step plays the current state and picks the next one.
+ * With auto-play on, the engine queues the next step itself after a fixed time, so bots play on
+ * without a click per turn.
+ *
+ * With a save file set, the game is saved after every step on a thread of its own, so it can be
+ * resumed where it was after the process was killed.
+ */
+public final class GameEngine {
+
+    /**
+     * What the next step of the game does
+     */
+    public enum State {
+        /** The current player asks for a rank, or draws or skips if they cannot */
+        TURN,
+        /** A set has been collected and is shown before it leaves the hand */
+        SET_COLLECTED,
+        /** All sets of the round are collected and the round is announced over */
+        ROUND_OVER,
+        /** The next round is dealt */
+        DEAL,
+        /** The winner is known; steps do nothing */
+        GAME_OVER
+    }
+
+    /**
+     * Receives the results of the commands, on the callback executor
+     */
+    public interface Listener {
+        void onTurnResult(TurnResult result);
+
+        void onEngineError(Exception e);
+    }
+
+    private static final byte[] DELETE_SAVE = new byte[0];  // saved in place of a game that is over
+
+    private final ScheduledExecutorService executor;
+    private final Executor callbackExecutor;
+    private final Listener listener;
+    private final Recorder recorder = new Recorder();
+    private final GameLogic game;
+    private final List<String> playerNames;
+    private int turn = 0;  // requests, skipped and passed turns played so far
+    private State state = State.TURN;
+    private EventLog eventLog = null;
+    private boolean autoPlay = false;
+    private long autoPlayStepMillis;
+    private boolean autoPlayHuman;  // let the human player's strategy ask for them as well
+    private ScheduledFuture<?> autoStep = null;
+    private GameMetrics metrics = null;
+    private GameMetrics.Histogram humanTurnMicros;
+    private GameMetrics.Histogram botTurnMicros;
+    private GameMetrics.Histogram stepMicros;
+    private GameMetrics.Histogram stepAllocatedBytes;
+    private Telemetry telemetry = null;
+    private long roundStartedAt;  // wall clock time the round was dealt
+    private int roundFirstTurn;  // turn the round started at
+    private volatile File saveFile = null;
+    private final ExecutorService saver;
+    private final AtomicReference<byte[]> pendingSave = new AtomicReference<>();
+    private final Runnable writeSave = new Runnable() {
+        @Override
+        public void run() {
+            writeSave();
+        }
+    };
+
+    /**
+     * Create an engine for a new game with a random seed
+     * @param listener receives the result of every command
+     * @param callbackExecutor runs the listener, e.g. the main thread executor
+     */
+    public GameEngine(Listener listener, Executor callbackExecutor) {
+        this(new SplittableRandom().nextLong(), listener, callbackExecutor);
+    }
+
+    /**
+     * Create an engine for a new game of four players and one deck
+     * @param seed seed for the shuffles and bot choices; the same seed plays the same game
+     * @param listener receives the result of every command
+     * @param callbackExecutor runs the listener, e.g. the main thread executor
+     */
+    public GameEngine(long seed, Listener listener, Executor callbackExecutor) {
+        this(seed, GameConfig.DEFAULT, listener, callbackExecutor);
+    }
+
+    /**
+     * Create an engine for a new game
+     * @param seed seed for the shuffles and bot choices; the same seed plays the same game
+     * @param config number of players and decks; the human plays seat 0
+     * @param listener receives the result of every command
+     * @param callbackExecutor runs the listener, e.g. the main thread executor
+     */
+    public GameEngine(long seed, GameConfig config, Listener listener, Executor callbackExecutor) {
+        this.listener = listener;
+        this.callbackExecutor = callbackExecutor;
+        this.game = new GameLogic(recorder, seed, config);
+        List<String> names = new ArrayList<>();
+        for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+            names.add(game.getPlayerAtSeat(seat).getName());
+        }
+        this.playerNames = Collections.unmodifiableList(names);
+        ScheduledThreadPoolExecutor engineThread = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "game-engine");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        // An auto-play step still waiting its delay must not run once the engine is shut down
+        engineThread.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor = engineThread;
+        this.saver = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "game-saver");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Get the names of the players, which never change
+     * @return the names by seat
+     */
+    public List<String> getPlayerNames() {
+        return playerNames;
+    }
+
+    /**
+     * Record every event of the game from now on
+     * @param eventLog the log to append to, or null to stop recording. The engine owns it from now on
+     */
+    public void setEventLog(final EventLog eventLog) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                GameEngine.this.eventLog = eventLog;
+                game.setEventLog(eventLog);
+            }
+        });
+    }
+
+    /**
+     * Trace every step and card move of the game from now on
+     * @param trace the buffer to record to, or null to stop tracing
+     */
+    public void setTraceBuffer(final TraceBuffer trace) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                recorder.trace = trace;
+            }
+        });
+    }
+
+    /**
+     * Measure how long turns and steps take from now on
+     * @param metrics the metrics to record to, or null to stop measuring
+     */
+    public void setMetrics(final GameMetrics metrics) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                GameEngine.this.metrics = metrics;
+                if (metrics != null) {
+                    humanTurnMicros = metrics.histogram("engine.human_turn_us");
+                    botTurnMicros = metrics.histogram("engine.bot_turn_us");
+                    stepMicros = metrics.histogram("engine.step_us");
+                    stepAllocatedBytes = metrics.histogram("engine.step_allocated_bytes");
+                }
+            }
+        });
+    }
+
+    /**
+     * Report rounds, turns and the winner to a telemetry pipeline from now on
+     * @param telemetry the pipeline, or null to stop reporting
+     */
+    public void setTelemetry(final Telemetry telemetry) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                GameEngine.this.telemetry = telemetry;
+            }
+        });
+    }
+
+    /**
+     * Save the game to a file after every step from now on. The file is written in the
+     * background, and deleted once the game is over
+     * @param saveFile the file, or null to stop saving
+     */
+    public void setSaveFile(final File saveFile) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                GameEngine.this.saveFile = saveFile;
+            }
+        });
+    }
+
+    /**
+     * Stop saving the game and delete the file it was saved to, e.g. when the player quits it
+     */
+    public void discardSave() {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                final File file = saveFile;
+                if (file == null || saver.isShutdown()) {
+                    return;
+                }
+                saveFile = null;
+                pendingSave.set(null);
+                // Runs after any write already started
+                saver.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        file.delete();
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Deal the first round
+     */
+    public void start() {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                startGame();
+            }
+        });
+    }
+
+    /**
+     * Continue the game saved in a file where it was, without dealing it again, or deal a new
+     * game if there is no saved game. A save that cannot be read, e.g. one written by an older
+     * version or cut short, is deleted and a new game is dealt in its place. The events of a
+     * resumed game are appended to the event log without a new GAME_START, as they continue the
+     * saved game
+     * @param saveFile the file the game was saved to
+     */
+    public void resume(final File saveFile) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                if (!saveFile.exists()) {
+                    startGame();
+                    return;
+                }
+                SavedGame saved;
+                try {
+                    saved = SavedGame.read(SavedGame.readFile(saveFile), game);
+                } catch (IOException e) {
+                    // Nothing the player can do about it, so just start over
+                    saveFile.delete();
+                    startGame();
+                    return;
+                }
+                recorder.begin();
+                recorder.message = "Game resumed. Round " + game.getCurrentRound();
+                state = State.values()[Math.min(saved.state, State.GAME_OVER.ordinal())];
+                turn = saved.turn;
+                startRound();
+                publish();
+                save();
+                scheduleAutoStep();
+            }
+        });
+    }
+
+    /**
+     * Play the next step of the game, the same way a click on the next button does: collect a
+     * set, end the round, start the next one or play the current player's turn
+     * @param targetSeat seat of the bot the human player asks, or -1 if none is chosen
+     * @param rank rank the human player asks for, or null if none is chosen
+     */
+    public void next(final int targetSeat, final String rank) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                step(targetSeat, rank);
+            }
+        });
+    }
+
+    /**
+     * Let the engine play the steps on its own, one every stepMillis. Auto-play waits at the
+     * human player's turn unless playHuman is set
+     * @param autoPlay true to play on without clicks
+     * @param stepMillis time between two steps
+     * @param playHuman true to let the human player's strategy ask for them too
+     */
+    public void setAutoPlay(final boolean autoPlay, final long stepMillis, final boolean playHuman) {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                GameEngine.this.autoPlay = autoPlay;
+                autoPlayStepMillis = stepMillis;
+                autoPlayHuman = playHuman;
+                scheduleAutoStep();
+            }
+        });
+    }
+
+    /**
+     * Write the recorded events to the log's stream
+     */
+    public void flushEventLog() {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                if (eventLog == null) {
+                    return;
+                }
+                try {
+                    eventLog.flush();
+                } catch (IOException e) {
+                    fail(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Close the event log once the queued commands are done, and stop the engine thread. The
+     * last save is still written; a pending auto-play step is dropped
+     */
+    public void shutdown() {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                if (autoStep != null) {
+                    autoStep.cancel(false);
+                    autoStep = null;
+                }
+                saver.shutdown();
+                if (eventLog == null) {
+                    return;
+                }
+                try {
+                    game.setEventLog(null);
+                    eventLog.close();
+                    eventLog = null;
+                } catch (IOException e) {
+                    fail(e);
+                }
+            }
+        });
+        executor.shutdown();
+    }
+
+    /**
+     * Play one step and publish what it did
+     */
+    private void step(int targetSeat, String rank) {
+        long start = System.nanoTime();
+        long allocatedBefore = metrics != null ? metrics.allocatedBytes() : -1;
+        recorder.begin();
+        recorder.trace(TraceBuffer.STEP, game.currentPlayer.getSeat(), state.ordinal());
+        state = play(state, targetSeat, rank);
+        publish();
+        save();
+        if (metrics != null) {
+            stepMicros.record((System.nanoTime() - start) / 1000);
+            if (allocatedBefore >= 0) {
+                stepAllocatedBytes.record(metrics.allocatedBytes() - allocatedBefore);
+            }
+        }
+        scheduleAutoStep();
+    }
+
+    /**
+     * Queue the next step if auto-play is on and the game does not wait for the human player,
+     * replacing the step queued before
+     */
+    private void scheduleAutoStep() {
+        if (autoStep != null) {
+            autoStep.cancel(false);
+            autoStep = null;
+        }
+        if (!autoPlay || executor.isShutdown() || state == State.GAME_OVER
+                || (state == State.TURN && game.currentPlayer.isHuman() && !autoPlayHuman)) {
+            return;
+        }
+        autoStep = executor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                autoStep = null;
+                try {
+                    step(-1, null);
+                } catch (RuntimeException e) {
+                    fail(e);
+                }
+            }
+        }, autoPlayStepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void submit(final Runnable command) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    fail(e);
+                }
+            }
+        });
+    }
+
+    private void fail(final Exception e) {
+        callbackExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                listener.onEngineError(e);
+            }
+        });
+    }
+
+    /**
+     * Play a step of the game
+     * @param state the state the game is in
+     * @return the state the game is in after the step
+     */
+    private State play(State state, int targetSeat, String rank) {
+        switch (state) {
+            case SET_COLLECTED:
+                Player scoringPlayer = game.getScoringPlayer();
+                recorder.message = scoringPlayer.getName() + " has collected 4 cards of " + game.getScoringRank() + " and get 1 score";
+                for (String collectedRank : game.collectedRanks()) {
+                    long set = Player.RANK_NIBBLE << (Card.rankToIndex(collectedRank) * 4);
+                    recorder.move(scoringPlayer.getHandMask() & set, scoringPlayer.getSeat(), TurnResult.DECK);
+                    recorder.trace(TraceBuffer.SET, scoringPlayer.getSeat(), Card.rankToIndex(collectedRank));
+                }
+                game.removeCollectedSets();
+                if (game.getTotalRoundPoint() == game.getSetsPerRound()) {
+                    logRound();
+                    return State.ROUND_OVER;
+                }
+                return State.TURN;
+            case ROUND_OVER:
+                if (game.isGameOver()) {
+                    game.determineWinner();
+                    logGameOver();
+                    return State.GAME_OVER;
+                }
+                recorder.message = "Round is over. Click next to start next round";
+                game.setStartNextRound(true);
+                return State.DEAL;
+            case DEAL:
+                game.setupRound();
+                game.playRound();
+                game.setStartNextRound(false);
+                startRound();
+                return State.TURN;
+            case GAME_OVER:
+                return State.GAME_OVER;
+            default:
+                return playTurn(targetSeat, rank);
+        }
+    }
+
+    private State playTurn(int targetSeat, String rank) {
+        if (!game.prepareTurn()) {
+            turn++;
+            recorder.message = "Deck is empty and current player has no card. Turn skipped";
+            return State.TURN;
+        }
+        Player player = game.currentPlayer;
+        boolean human = player.isHuman() && !(autoPlay && autoPlayHuman);
+        if (human && (targetSeat < 1 || targetSeat >= game.getPlayerCount() || rank == null)) {
+            recorder.message = "Please select a bot and a rank.";
+            return State.TURN;
+        }
+        turn++;
+        long start = System.nanoTime();
+        if (human) {
+            game.humanTurn(game.getPlayerAtSeat(targetSeat), rank);
+        } else {
+            game.botTurn(player);
+        }
+        long micros = (System.nanoTime() - start) / 1000;
+        if (metrics != null) {
+            (human ? humanTurnMicros : botTurnMicros).record(micros);
+        }
+        if (telemetry != null) {
+            Map<String, Long> params = new LinkedHashMap<>();
+            params.put("seat", (long) player.getSeat());
+            params.put("duration_us", micros);
+            params.put("success", recorder.requestSuccess ? 1L : 0L);
+            params.put("cards", (long) recorder.cardsReceived);
+            telemetry.log(new TelemetryEvent(TelemetryEvent.TURN, System.currentTimeMillis(), params));
+        }
+        return game.getScoringPlayer() != null ? State.SET_COLLECTED : State.TURN;
+    }
+
+    private void startGame() {
+        recorder.begin();
+        game.startGame();
+        startRound();
+        state = State.TURN;
+        publish();
+        save();
+        scheduleAutoStep();
+    }
+
+    /**
+     * Hand the game as it is now to the saver thread. Only the newest save is written if the
+     * thread falls behind. The event log is flushed first, so a resumed game never appends to a
+     * log that lacks the events before the save
+     */
+    private void save() {
+        if (saveFile == null || saver.isShutdown()) {
+            return;
+        }
+        if (eventLog != null) {
+            try {
+                eventLog.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+        byte[] data = state == State.GAME_OVER ? DELETE_SAVE : SavedGame.write(game, state.ordinal(), turn);
+        if (pendingSave.getAndSet(data) == null) {
+            saver.execute(writeSave);
+        }
+    }
+
+    private void writeSave() {
+        byte[] data = pendingSave.getAndSet(null);
+        File file = saveFile;
+        if (data == null || file == null) {
+            return;
+        }
+        try {
+            if (data == DELETE_SAVE) {
+                file.delete();
+            } else {
+                SavedGame.writeFile(file, data);
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void startRound() {
+        roundStartedAt = System.currentTimeMillis();
+        roundFirstTurn = turn;
+    }
+
+    private void logRound() {
+        if (telemetry == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<String, Long> params = new LinkedHashMap<>();
+        params.put("round", (long) game.getCurrentRound());
+        params.put("turns", (long) (turn - roundFirstTurn));
+        params.put("duration_ms", now - roundStartedAt);
+        putScores(params);
+        telemetry.log(new TelemetryEvent(TelemetryEvent.ROUND_PLAYED, now, params));
+    }
+
+    private void logGameOver() {
+        if (telemetry == null) {
+            return;
+        }
+        int winner = 0;
+        for (int seat = 1; seat < game.getPlayerCount(); seat++) {
+            if (game.getScore(seat) > game.getScore(winner)) {
+                winner = seat;
+            }
+        }
+        Map<String, Long> params = new LinkedHashMap<>();
+        params.put("winner", (long) winner);
+        putScores(params);
+        telemetry.log(new TelemetryEvent(TelemetryEvent.GAME_OVER, System.currentTimeMillis(), params));
+    }
+
+    private void putScores(Map<String, Long> params) {
+        for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+            params.put("score_" + seat, (long) game.getScore(seat));
+        }
+    }
+
+    private void publish() {
+        int players = game.getPlayerCount();
+        long[] hands = new long[players];
+        int[] scores = new int[players];
+        for (int seat = 0; seat < players; seat++) {
+            hands[seat] = game.getPlayerAtSeat(seat).getHandMask();
+            scores[seat] = game.getScore(seat);
+        }
+        GameSnapshot table = new GameSnapshot(turn, game.getCurrentRound(), game.currentPlayer.getSeat(),
+                game.getDeck().getSize(), game.getCollectedCards(), hands, scores, -1);
+        boolean humanTurn = state == State.TURN && game.currentPlayer.isHuman();
+        final TurnResult result = new TurnResult(state, table, recorder.moves, recorder.message, recorder.newRound,
+                humanTurn, game.getHumanPlayer().getValidRanks());
+        callbackExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                listener.onTurnResult(result);
+            }
+        });
+    }
+
+    /**
+     * Collects what the game reports while a command is played, to publish it in one TurnResult
+     */
+    private static final class Recorder extends NoOpGameListener {
+        final List<TurnResult.CardMove> moves = new ArrayList<>();
+        String message;
+        boolean newRound;
+        boolean requestSuccess;
+        int cardsReceived;
+        TraceBuffer trace = null;
+
+        void begin() {
+            moves.clear();
+            message = null;
+            newRound = false;
+            requestSuccess = false;
+            cardsReceived = 0;
+        }
+
+        void move(long cards, int from, int to) {
+            if (cards != 0) {
+                moves.add(new TurnResult.CardMove(cards, from, to));
+            }
+        }
+
+        void trace(int type, int player, int value) {
+            if (trace != null) {
+                trace.record(type, player, value);
+            }
+        }
+
+        @Override
+        public void refillDeck() {
+            newRound = true;
+        }
+
+        @Override
+        public void onCardDistributed(Player player, Card card) {
+            move(1L << card.ordinal(), TurnResult.DECK, player.getSeat());
+            trace(newRound ? TraceBuffer.DEAL : TraceBuffer.DRAW, player.getSeat(), card.ordinal());
+        }
+
+        @Override
+        public void transferCardAnimation(Player askedPlayer, Player askingPlayer, List<Card> cards) {
+            long mask = 0L;
+            for (int i = 0; i < cards.size(); i++) {
+                mask |= 1L << cards.get(i).ordinal();
+            }
+            move(mask, askedPlayer.getSeat(), askingPlayer.getSeat());
+            trace(TraceBuffer.TRANSFER, askingPlayer.getSeat(), Long.numberOfTrailingZeros(mask));
+        }
+
+        @Override
+        public void requestResult(Player askingPlayer, boolean requestSuccess, String rankAsked, Player target,
+                                  int numberOfCards, boolean score) {
+            trace(TraceBuffer.ASK, askingPlayer.getSeat(), Card.rankToIndex(rankAsked));
+            this.requestSuccess = requestSuccess;
+            this.cardsReceived = numberOfCards;
+            String message = askingPlayer.getName() + " asked " + target.getName() + " about rank " + rankAsked + ". ";
+            if (requestSuccess == false) {
+                message += "\n" + target.getName() + " does not have " + rankAsked + ". " + askingPlayer.getName() + " draws a card. Turn is over";
+            } else {
+                message += "\n" + target.getName() + " has " + numberOfCards + " rank " + rankAsked +  ". " + askingPlayer.getName() + " continues turn.";
+            }
+            this.message = message;
+        }
+
+        @Override
+        public void passResult(Player player, boolean drew, boolean score) {
+            message = "Nobody else has a card. " + player.getName()
+                    + (drew ? " draws a card. Turn is over" : " passes the turn");
+        }
+
+        @Override
+        public void onGameOver(String winnerMessage) {
+            message = winnerMessage;
+        }
+    }
+}
@@ -0,0 +1,774 @@
+
+package com.example.fishingcardgame;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The GameLogic class is responsible for handling the game flow, including managing
+ * players, scoring, and turns. It interfaces with the Deck and Player classes to
+ * control the state and progression of the game. The number of players and decks is set by
+ * a GameConfig; seat 0 is the human player and the bots sit at the seats after it.
+ */
+public class GameLogic {
+    private static final int INITIAL_HAND_SIZE = 5;
+    private static final String[] BOT_NAMES = {"Alice", "Bob", "Charlie", "Dave", "Erin", "Frank", "Grace"};
+
+    private final GameConfig config;
+    private final long seed;
+    private GameRandom random;
+    private Deck deck;
+    private Player humanPlayer;
+    private List<Player> botPlayers;
+    private int currentRound = 1;
+    private List<Player> turnOrder;
+    private final int[] scores;  // by seat
+    boolean continueTurn = false;
+    private boolean nextButtonClicked = false;
+    private int totalRoundPoint = 0; // if this reaches 13 per deck, next button either starts next round or ends game./
+    protected Player currentPlayer = null;
+    private boolean startNextRound = false;
+    private Player scoringPlayer = null;
+    private String scoringRank = "";
+    private List<String> collectedRanks = new ArrayList<String>();
+    private long collectedCards = 0L;  // bitmask of the ranks whose every set is collected this round
+    private final int[] setsOfRank = new int[Card.RANKS.length];  // sets collected this round by rank index
+    private KnowledgeTracker knowledge;  // what every player can deduce about the others' hands
+    private EventLog eventLog = null;  // records every event when set
+
+    private GameListener gameListener;  // Interface to notify UI about game events
+
+    /**
+     * Initializes the GameLogic with the necessary components.
+     */
+    public GameLogic(GameListener listener) {
+        this(listener, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Initializes a GameLogic whose shuffles and bot choices all come from one seed,
+     * so the same seed always plays the same game
+     */
+    public GameLogic(GameListener listener, long seed) {
+        this(listener, seed, GameConfig.DEFAULT);
+    }
+
+    /**
+     * Initializes a GameLogic for any number of players and decks
+     * @param listener receives the game events
+     * @param seed seed for the shuffles and bot choices
+     * @param config number of players and decks
+     */
+    public GameLogic(GameListener listener, long seed, GameConfig config) {
+        this.gameListener = listener;
+        this.config = config;
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+        deck = new Deck(random, config.getDecks());
+        humanPlayer = new Player("Human");
+        botPlayers = new ArrayList<>();
+        for (int i = 0; i < config.getPlayers() - 1; i++) {
+            botPlayers.add(new Player(BOT_NAMES[i]));
+            botPlayers.get(i).setSeat(i + 1);
+        }
+        scores = new int[config.getPlayers()];
+        knowledge = new KnowledgeTracker(config.getPlayers());
+    }
+
+    // Interface to communicate with the Android UI
+    public interface GameListener {
+        void onScoreUpdate(int humanScore, int[] botScores);
+        void onGameOver(String winnerMessage);
+
+        void onCardDistributed(Player player, Card card);
+
+        void showCardAnimation();
+
+
+        void playRound();
+
+        void updateHumanHandView();
+
+        void requestResult(Player askingPlayer, boolean requestSuccess, String rankAsked,
+                           Player target, int numberCardReceived, boolean score);
+
+        void passResult(Player player, boolean drew, boolean score);
+
+        void disableButtons();
+
+        void enableButtons();
+
+        void transferCardAnimation(Player humanPlayer, Player target, List<Card> cardsReceived);
+
+        void scorePoint(Player aPlayer, ArrayList<Card> collectedCards );
+
+        void updateBotHandView(Player bot);
+
+        void updateSpinner();
+
+        void onDeckEmpty();
+
+        void refillDeck();
+    }
+
+    /**
+     * start the game
+     */
+    public void startGame() {
+        if (eventLog != null) { eventLog.appendGameStart(seed, config.getPlayers(), config.getDecks()); }
+        setupRound();
+//        testAnimation();
+        playRound();  //  enable button
+//         endRound();  // prepare a new round & clean up old round or end game
+
+    }
+
+    private void testAnimation() {
+        gameListener.showCardAnimation();
+    }
+
+    /**
+     *  Setup the round by shuffling the deck and distributing cards
+     */
+    void setupRound() {
+        deck.reset();
+        gameListener.refillDeck();
+        determineTurnOrder();
+        currentPlayer = turnOrder.get(0);
+        if (eventLog != null) { eventLog.append(EventLog.ROUND_START, currentPlayer.getSeat(), 0, currentRound, 0); }
+        distributeInitialCards();
+        totalRoundPoint = 0; // reset total round points
+        collectedCards = 0L;
+        Arrays.fill(setsOfRank, 0);
+        knowledge.reset();
+    }
+
+    /**
+     * Initially distribute 5 cards to each player
+     */
+    private void distributeInitialCards() {
+        for (int j=0; j < turnOrder.size(); j++ ) {
+            turnOrder.get(j).clearHand();
+        }
+
+        // Each player takes one slice of the shuffled deck
+        int firstCard = 0;
+        for (int j=0; j < turnOrder.size(); j++ ) {
+            int dealt = deck.dealTo(turnOrder.get(j), INITIAL_HAND_SIZE);
+            if (j == 0) {
+                firstCard = dealt;
+            }
+        }
+
+        for (int i = 0; i < INITIAL_HAND_SIZE; i++) {
+            for (int j=0; j < turnOrder.size(); j++ ) {
+                Card aCard = deck.getCard(firstCard + j * INITIAL_HAND_SIZE + i);
+                if (eventLog != null) { eventLog.append(EventLog.DEAL, turnOrder.get(j).getSeat(), 0, aCard.ordinal(), 0); }
+                gameListener.onCardDistributed(turnOrder.get(j), aCard);  // Notify UI to animate card distribution
+            }
+        }
+
+    }
+
+    /**
+     * Determine the turn order for the current round: seat order, starting one seat further on
+     * every round
+     */
+    private void determineTurnOrder() {
+        int players = getPlayerCount();
+        Player[] order = new Player[players];
+        for (int i = 0; i < players; i++) {
+            order[i] = getPlayerAtSeat((currentRound - 1 + i) % players);
+        }
+        turnOrder = Arrays.asList(order);
+    }
+
+    /**
+     * Notify UI that a new round is played. It is a part of process of setting up a new round
+     */
+    void playRound() {
+        gameListener.playRound();
+    }
+
+    /**
+     * Play human turn
+     * @param target the player is asked by human
+     * @param rankAsked the rank that human player asks
+     */
+    // Handle the human's turn through UI input
+    public void humanTurn(Player target, String rankAsked) {
+        // There will be no updateHandView either for human turn or for bot turn
+        boolean requestSuccess;
+        boolean score = false;
+        int numberCardReceived = 0;
+        int rankIndex = Card.rankToIndex(rankAsked);
+        if (target.hasRank(rankIndex)) {
+            knowledge.onAsk(humanPlayer.getSeat(), target.getSeat(), rankIndex,
+                    target.getHandMask() & (Player.RANK_NIBBLE << (rankIndex * 4)));
+            List<Card> cardsReceived = target.giveCards(rankAsked);
+            humanPlayer.addCards(cardsReceived);
+            requestSuccess = true;
+            numberCardReceived = cardsReceived.size();
+            if (eventLog != null) { eventLog.append(EventLog.ASK, humanPlayer.getSeat(), target.getSeat(), rankIndex, numberCardReceived); }
+            gameListener.transferCardAnimation(target , humanPlayer, cardsReceived);
+
+        } else {
+            knowledge.onAsk(humanPlayer.getSeat(), target.getSeat(), rankIndex, 0L);
+            if (eventLog != null) { eventLog.append(EventLog.ASK, humanPlayer.getSeat(), target.getSeat(), rankIndex, 0); }
+            if (!deck.isEmpty()) {
+                Card temp = deck.drawCard();
+                humanPlayer.addCard(temp);
+                knowledge.onDraw(humanPlayer.getSeat());
+                if (eventLog != null) { eventLog.append(EventLog.DRAW, humanPlayer.getSeat(), 0, temp.ordinal(), 0); }
+                if (deck.isEmpty()) { gameListener.onDeckEmpty(); }
+                gameListener.onCardDistributed(humanPlayer ,temp);
+            }
+
+            requestSuccess = false;
+            setNextPlayer(this.currentPlayer);
+            gameListener.disableButtons();
+        }
+        score = checkForCollectedSets(humanPlayer);
+        gameListener.requestResult(humanPlayer , requestSuccess, rankAsked, target, numberCardReceived, score);
+    }
+
+    /**
+     *  Simulate a bot's turn, returns true if the turn should continue
+     * @param bot the bot who is currently playing
+     */
+    void botTurn(Player bot) {
+        List<Player> validTargets = getValidTargets(bot);
+        if (validTargets.isEmpty()) {
+            // Nobody else holds a card, so the bot can only draw and pass the turn
+            if (eventLog != null) { eventLog.append(EventLog.PASS, bot.getSeat(), 0, 0, 0); }
+            boolean drew = !deck.isEmpty();
+            if (drew) {
+                Card temp = deck.drawCard();
+                bot.addCard(temp);
+                knowledge.onDraw(bot.getSeat());
+                if (eventLog != null) { eventLog.append(EventLog.DRAW, bot.getSeat(), 0, temp.ordinal(), 0); }
+                if (deck.isEmpty()) { gameListener.onDeckEmpty(); }
+
+                gameListener.onCardDistributed(bot ,temp);
+            }
+            if (playerAfter(currentPlayer).isHuman()) {
+                gameListener.enableButtons();
+            }
+            setNextPlayer(this.currentPlayer);
+            gameListener.passResult(bot, drew, checkForCollectedSets(bot));
+            return;
+        }
+        BotMove move = bot.getStrategy().chooseMove(this, bot);
+        Player target = move.getTarget();
+        String rankAsked = move.getRank();
+
+        boolean requestSuccess;
+        int numberCardReceived = 0;
+        boolean score = false;
+        int rankIndex = Card.rankToIndex(rankAsked);
+
+        if (target.hasRank(rankIndex)) {
+            knowledge.onAsk(bot.getSeat(), target.getSeat(), rankIndex,
+                    target.getHandMask() & (Player.RANK_NIBBLE << (rankIndex * 4)));
+            List<Card> cardsReceived = target.giveCards(rankAsked);
+            bot.addCards(cardsReceived);
+            requestSuccess = true;
+            numberCardReceived = cardsReceived.size();
+            if (eventLog != null) { eventLog.append(EventLog.ASK, bot.getSeat(), target.getSeat(), rankIndex, numberCardReceived); }
+            gameListener.transferCardAnimation(target , bot, cardsReceived);
+        } else {
+            knowledge.onAsk(bot.getSeat(), target.getSeat(), rankIndex, 0L);
+            if (eventLog != null) { eventLog.append(EventLog.ASK, bot.getSeat(), target.getSeat(), rankIndex, 0); }
+            if (!deck.isEmpty()) {
+                Card temp = deck.drawCard();
+                bot.addCard(temp);
+                knowledge.onDraw(bot.getSeat());
+                if (eventLog != null) { eventLog.append(EventLog.DRAW, bot.getSeat(), 0, temp.ordinal(), 0); }
+                if (deck.isEmpty()) { gameListener.onDeckEmpty(); }
+
+                gameListener.onCardDistributed(bot ,temp);
+            }
+
+            requestSuccess = false;
+            if (playerAfter(currentPlayer).isHuman()) {
+                gameListener.enableButtons();
+            }
+            setNextPlayer(this.currentPlayer);
+        }
+        score = checkForCollectedSets(bot);  // Check for any collected sets
+        gameListener.requestResult(bot , requestSuccess, rankAsked, target, numberCardReceived, score);
+    }
+
+    /**
+     * Prepare the current player for a turn. A player with an empty hand draws a card first,
+     * and the turn is passed on if the deck is empty as well
+     * @return true if the current player can ask for a rank
+     */
+    boolean prepareTurn() {
+        if (currentPlayer.getHandSize() == 0 && !deck.isEmpty()) {
+            // Allows player with empty hand to draw a card and play
+            Card temp = deck.drawCard();
+            currentPlayer.addCard(temp);
+            knowledge.onDraw(currentPlayer.getSeat());
+            if (eventLog != null) { eventLog.append(EventLog.DRAW, currentPlayer.getSeat(), 0, temp.ordinal(), 0); }
+        }
+        if (currentPlayer.getHandSize() == 0) {
+            if (eventLog != null) { eventLog.append(EventLog.SKIP, currentPlayer.getSeat(), 0, 0, 0); }
+            setNextPlayer(currentPlayer);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Remove every set that the scoring player has just collected from their hand
+     */
+    void removeCollectedSets() {
+        if (scoringPlayer == null) {
+            return;
+        }
+        for (String rank : collectedRanks) {
+            scoringPlayer.removeSet(rank);
+            // Only the set is public, not whether the player kept more of the rank
+            knowledge.onSetHandedIn(scoringPlayer.getSeat(), Card.rankToIndex(rank));
+        }
+        scoringPlayer = null;
+        scoringRank = "";
+    }
+
+    /**
+     * Check for collected sets of 4 cards of the same rank
+     * @param player the player who might have collected a set of 4 cards
+     * @return true if a set of 4 cards of same rank has been collected
+     */
+    private boolean checkForCollectedSets(Player player) {
+        boolean score = false;
+        collectedRanks.clear();
+        if (player.completedSets() != 0) {
+            collectedRanks = player.checkForSets();
+        }
+        for (String rank : collectedRanks) {
+            scoringRank = rank;
+            int rankIndex = Card.rankToIndex(rank);
+            if (++setsOfRank[rankIndex] == config.getDecks()) {
+                // Every card of the rank is collected, so nobody can hold it anymore
+                collectedCards |= Player.RANK_NIBBLE << (rankIndex * 4);
+                knowledge.onSetCollected(rankIndex);
+            }
+            if (eventLog != null) { eventLog.append(EventLog.SET, player.getSeat(), 0, rankIndex, 0); }
+            scores[player.getSeat()]++;
+//            collectedCards = player.removeSet(rank);  //  THIS ALREADY REMOVE A SET OF 4 CARDS.
+            // THUS, HAND VIEW WILL BE UPDATED ACCORDINGLY
+            totalRoundPoint++;
+
+            score = true;
+            this.scoringPlayer = player;
+            // need to setText status
+            gameListener.disableButtons();
+        }
+        if (player == humanPlayer) {
+            gameListener.updateSpinner();
+        }
+        return score;
+    }
+
+    // End the round and clear the players' hands
+    private void endRound() {
+        // Notify UI that the round has ended and update the scores
+        gameListener.onScoreUpdate(getHumanScore(), getBotScores());
+    }
+
+    /**
+     *  Determine the final winner after all rounds
+     */
+    void determineWinner() {
+        StringBuilder winnerMessage = new StringBuilder("Game Over!\nFinal Scores:\n");
+        int highestScore = 0;
+        for (int seat = 0; seat < getPlayerCount(); seat++) {
+            winnerMessage.append(getPlayerAtSeat(seat).getName()).append(": ").append(scores[seat]).append("\n");
+            highestScore = Math.max(highestScore, scores[seat]);
+        }
+
+        List<String> winners = new ArrayList<>();
+        for (int seat = 0; seat < getPlayerCount(); seat++) {
+            if (scores[seat] == highestScore) winners.add(getPlayerAtSeat(seat).getName());
+        }
+
+        winnerMessage.append("Winner(s): ").append(String.join(", ", winners));
+        winnerMessage.append("Click quit button to restart game.");
+        gameListener.onGameOver(winnerMessage.toString());
+    }
+
+    /**
+     * Get all players (human + bots)
+     * @return  all players (human + bots)
+     */
+    private List<Player> getAllPlayers() {
+        List<Player> allPlayers = new ArrayList<>(botPlayers);
+        allPlayers.add(humanPlayer);
+        return allPlayers;
+    }
+
+    /**
+     * Get valid targets for a bot
+     * @param bot the bot that seeks valid targets to ask
+     * @return valid targets for a bot
+     */
+    List<Player> getValidTargets(Player bot) {
+        List<Player> validTargets = new ArrayList<>();
+        for (Player tempPlayer : botPlayers) {
+            if  (tempPlayer.getHandSize() > 0 ) {
+                validTargets.add(tempPlayer);
+            }
+        }
+        if (humanPlayer.getHandSize() > 0 ) {
+            validTargets.add(humanPlayer);
+        }
+        validTargets.remove(bot);  // Bot cannot ask itself
+        return validTargets;
+    }
+
+    /**
+     * Get all bot players
+     * @return all bot players
+     */
+    List<Player> getBotPlayers() {
+        return botPlayers;
+    }
+
+    /**
+     * Get human player
+     * @return human player
+     */
+    Player getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    /**
+     * Get the players in the turn order of the current round
+     * @return the players in turn order
+     */
+    List<Player> getTurnOrder() {
+        return turnOrder;
+    }
+
+    /**
+     * Get what every player can deduce about the other players' hands from the requests so far
+     * @return the knowledge tracker of this game
+     */
+    public KnowledgeTracker getKnowledge() {
+        return knowledge;
+    }
+
+    /**
+     * Record every event of this game from now on
+     * @param eventLog the log to append to, or null to stop recording
+     */
+    public void setEventLog(EventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Get the seed that all random choices of this game come from
+     * @return the seed of the game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get the generator behind all random choices of this game
+     * @return the game's random generator
+     */
+    GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Get the cards that have been collected as sets this round. This is public information.
+     * With more than one deck a rank only counts once all its sets are collected
+     * @return bitmask with bit card.ordinal() set for every card of a fully collected rank
+     */
+    public long getCollectedCards() {
+        return collectedCards;
+    }
+
+    /**
+     * Get deck
+     * @return deck
+     */
+    Deck getDeck() {
+        return deck;
+    }
+
+    /**
+     * Write everything needed to continue the game between two steps: the round, the turn order,
+     * the hands and the order of the deck, the scores, what the players know and the state of the
+     * random generator, so the game goes on with the same shuffles and bot choices
+     * @param out where to write the game to
+     * @throws IOException if the game cannot be written
+     */
+    void writeState(DataOutput out) throws IOException {
+        int players = getPlayerCount();
+        out.writeByte(players);
+        out.writeByte(config.getDecks());
+        out.writeByte(currentRound);
+        out.writeShort(totalRoundPoint);
+        out.writeBoolean(startNextRound);
+        for (Player player : turnOrder) {
+            out.writeByte(player.getSeat());
+        }
+        out.writeByte(currentPlayer.getSeat());
+        for (int seat = 0; seat < players; seat++) {
+            List<Card> hand = getPlayerAtSeat(seat).getHand();
+            out.writeShort(hand.size());
+            for (int i = 0; i < hand.size(); i++) {
+                out.writeByte(hand.get(i).ordinal());
+            }
+            out.writeShort(scores[seat]);
+        }
+        out.writeLong(collectedCards);
+        for (int sets : setsOfRank) {
+            out.writeByte(sets);
+        }
+        out.writeByte(scoringPlayer != null ? scoringPlayer.getSeat() : -1);
+        out.writeByte(scoringRank.isEmpty() ? -1 : Card.rankToIndex(scoringRank));
+        out.writeByte(collectedRanks.size());
+        for (String rank : collectedRanks) {
+            out.writeByte(Card.rankToIndex(rank));
+        }
+        deck.writeTo(out);
+        knowledge.writeTo(out);
+        random.writeTo(out);
+    }
+
+    /**
+     * Continue a game written by writeState(), replacing the state of this one. Nothing is
+     * replaced unless the whole game can be read
+     * @param in where to read the game from
+     * @throws IOException if the game cannot be read or does not fit this table
+     */
+    void readState(DataInput in) throws IOException {
+        int players = in.readUnsignedByte();
+        int decks = in.readUnsignedByte();
+        if (players != getPlayerCount() || decks != config.getDecks()) {
+            throw new IOException("Saved game has " + players + " players and " + decks + " decks, not " + config);
+        }
+        int round = in.readUnsignedByte();
+        int roundPoints = in.readUnsignedShort();
+        boolean nextRound = in.readBoolean();
+        Player[] order = new Player[players];
+        for (int i = 0; i < players; i++) {
+            order[i] = readPlayer(in);
+        }
+        Player current = readPlayer(in);
+        Card[][] hands = new Card[players][];
+        int[] savedScores = new int[players];
+        for (int seat = 0; seat < players; seat++) {
+            hands[seat] = new Card[in.readUnsignedShort()];
+            for (int i = 0; i < hands[seat].length; i++) {
+                hands[seat][i] = Card.of(in.readUnsignedByte());
+            }
+            savedScores[seat] = in.readUnsignedShort();
+        }
+        long collected = in.readLong();
+        int[] sets = new int[setsOfRank.length];
+        for (int rankIndex = 0; rankIndex < sets.length; rankIndex++) {
+            sets[rankIndex] = in.readUnsignedByte();
+        }
+        int scoringSeat = in.readByte();
+        Player scorer = scoringSeat < 0 ? null : getPlayerAtSeat(scoringSeat);
+        int scoringRankIndex = in.readByte();
+        String rankScored = scoringRankIndex < 0 ? "" : Card.RANKS[scoringRankIndex];
+        List<String> ranks = new ArrayList<>();
+        for (int i = in.readUnsignedByte(); i > 0; i--) {
+            ranks.add(Card.RANKS[in.readUnsignedByte()]);
+        }
+        GameRandom savedRandom = new GameRandom(seed);
+        Deck savedDeck = new Deck(savedRandom, decks);
+        savedDeck.readFrom(in);
+        KnowledgeTracker savedKnowledge = new KnowledgeTracker(players);
+        savedKnowledge.readFrom(in);
+        savedRandom.readFrom(in);
+
+        currentRound = round;
+        totalRoundPoint = roundPoints;
+        startNextRound = nextRound;
+        turnOrder = Arrays.asList(order);
+        currentPlayer = current;
+        for (int seat = 0; seat < players; seat++) {
+            Player player = getPlayerAtSeat(seat);
+            player.clearHand();
+            player.addCards(hands[seat], 0, hands[seat].length);
+        }
+        System.arraycopy(savedScores, 0, scores, 0, players);
+        collectedCards = collected;
+        System.arraycopy(sets, 0, setsOfRank, 0, sets.length);
+        scoringPlayer = scorer;
+        scoringRank = rankScored;
+        collectedRanks = ranks;
+        deck = savedDeck;
+        knowledge = savedKnowledge;
+        random = savedRandom;
+    }
+
+    private Player readPlayer(DataInput in) throws IOException {
+        int seat = in.readUnsignedByte();
+        if (seat >= getPlayerCount()) {
+            throw new IOException("No player at seat " + seat);
+        }
+        return getPlayerAtSeat(seat);
+    }
+
+    /**
+     * Get number of players at the table
+     * @return number of players
+     */
+    public int getPlayerCount() {
+        return botPlayers.size() + 1;
+    }
+
+    /**
+     * Get the number of players and decks of this game
+     * @return the configuration of the game
+     */
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Get number of sets collected in a full round, 13 per deck
+     * @return number of sets per round
+     */
+    public int getSetsPerRound() {
+        return config.getSetsPerRound();
+    }
+
+    /**
+     * Get the player at a seat
+     * @param seat 0 for the human, 1 and up for the bots
+     * @return the player at the seat
+     */
+    public Player getPlayerAtSeat(int seat) {
+        return seat == 0 ? humanPlayer : botPlayers.get(seat - 1);
+    }
+
+    /**
+     * Get the score of the player at a seat
+     * @param seat 0 for the human, 1 and up for the bots
+     * @return the score of the player
+     */
+    public int getScore(int seat) {
+        return scores[seat];
+    }
+
+    /**
+     * Get Alice player, at seat 1
+     * @return Alice player
+     */
+    public Player getAlicePlayer() {
+        return botPlayers.get(0);
+    }
+
+    public Player getBobPlayer() {
+        return botPlayers.get(1);
+    }
+
+    public Player getCharliePlayer() {
+        return botPlayers.get(2);
+    }
+
+    public int getCurrentRound() {
+        return currentRound;
+    }
+
+    public int getTotalRoundPoint() {
+        return totalRoundPoint;
+    }
+
+    /**
+     * Check if a round is over
+     * @return true if round is over
+     */
+    public boolean isRoundOver() {
+        return totalRoundPoint == getSetsPerRound() && currentRound < config.getRounds();
+    }
+
+    /**
+     * Check if game is over
+     * @return true if game is over
+     */
+    public boolean isGameOver() {
+        return currentRound == config.getRounds() && totalRoundPoint == getSetsPerRound();
+    }
+
+    /**
+     * Trigger a new round
+     * @param startNextRound true if a new round is ready to begin
+     */
+    public void setStartNextRound(boolean startNextRound) {
+        this.startNextRound = startNextRound;
+        if (startNextRound) {
+            currentRound++ ;
+        }
+    }
+
+    /**
+     * Check if next round has begun
+     * @return true if a next round is about to begin
+     */
+    public boolean isStartNextRound() {
+        return startNextRound;
+    }
+
+    public void setNextPlayer(Player aPlayer){
+        this.currentPlayer = playerAfter(aPlayer);
+    }
+
+    /**
+     * Get the player who plays after a player in the turn order of the round
+     * @param aPlayer the player
+     * @return the next player, the first one after the last
+     */
+    private Player playerAfter(Player aPlayer) {
+        int temp = turnOrder.indexOf(aPlayer);
+        return turnOrder.get((temp + 1) % turnOrder.size());
+    }
+
+    public Player getScoringPlayer() {
+        return scoringPlayer;
+    }
+
+    public void setScoringPlayer(Player scoringPlayer) {
+        this.scoringPlayer = scoringPlayer;
+    }
+
+    public List<String> collectedRanks() {
+        return this.collectedRanks;
+    }
+
+    public int getHumanScore() {
+        return scores[0];
+    }
+
+    /**
+     * Get the scores of the bots
+     * @return a copy of the scores in seat order, from seat 1
+     */
+    public int[] getBotScores() {
+        return Arrays.copyOfRange(scores, 1, scores.length);
+    }
+
+    public void setScoringRank(String scoringRank) {
+        this.scoringRank = scoringRank;
+    }
+
+    public String getScoringRank() {
+        return scoringRank;
+    }
+}
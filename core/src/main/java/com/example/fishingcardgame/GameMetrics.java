@@ -0,0 +1,244 @@
+package com.example.fishingcardgame;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The GameMetrics collect named counters and histograms, e.g. how long a bot takes for a turn
+ * or how many frames an animation dropped. Callers look a metric up once and keep it, so
+ * recording a value takes no lookup. Metrics can be recorded from any thread and are printed
+ * as a summary for an overlay or dumped to a file.
+ */
+public class GameMetrics {
+
+    /**
+     * Tells how many bytes have been allocated so far, where the platform can measure it
+     */
+    public interface AllocationProbe {
+        long allocatedBytes();
+    }
+
+    private final Map<String, Counter> counters = new LinkedHashMap<>();
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private volatile AllocationProbe allocationProbe = null;
+
+    /**
+     * Get a counter, creating it the first time
+     * @param name name of the counter
+     * @return the counter
+     */
+    public synchronized Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            counter = new Counter(name);
+            counters.put(name, counter);
+        }
+        return counter;
+    }
+
+    /**
+     * Get a histogram, creating it the first time
+     * @param name name of the histogram, ending in its unit
+     * @return the histogram
+     */
+    public synchronized Histogram histogram(String name) {
+        Histogram histogram = histograms.get(name);
+        if (histogram == null) {
+            histogram = new Histogram(name);
+            histograms.put(name, histogram);
+        }
+        return histogram;
+    }
+
+    /**
+     * Set how allocations are measured on this platform
+     * @param allocationProbe the probe, or null if allocations cannot be measured
+     */
+    public void setAllocationProbe(AllocationProbe allocationProbe) {
+        this.allocationProbe = allocationProbe;
+    }
+
+    /**
+     * Get the number of bytes allocated so far
+     * @return the bytes allocated, or -1 if they cannot be measured
+     */
+    public long allocatedBytes() {
+        AllocationProbe probe = allocationProbe;
+        return probe == null ? -1 : probe.allocatedBytes();
+    }
+
+    /**
+     * Clear every counter and histogram
+     */
+    public synchronized void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Get one line per metric
+     * @return every counter and histogram that has recorded something
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        for (Counter counter : snapshotCounters()) {
+            if (counter.get() != 0) {
+                summary.append(counter).append('\n');
+            }
+        }
+        for (Histogram histogram : snapshotHistograms()) {
+            if (histogram.getCount() != 0) {
+                summary.append(histogram).append('\n');
+            }
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Write every metric, one line each, including the bucket counts of the histograms
+     * @param out where to write the metrics to
+     * @throws IOException if the metrics cannot be written
+     */
+    public void dump(Writer out) throws IOException {
+        for (Counter counter : snapshotCounters()) {
+            out.write(counter.toString());
+            out.write('\n');
+        }
+        for (Histogram histogram : snapshotHistograms()) {
+            out.write(histogram.toString());
+            out.write('\n');
+            out.write(histogram.bucketsToString());
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private synchronized List<Counter> snapshotCounters() {
+        return new ArrayList<>(counters.values());
+    }
+
+    private synchronized List<Histogram> snapshotHistograms() {
+        return new ArrayList<>(histograms.values());
+    }
+
+    /**
+     * A number that only goes up, e.g. dropped frames
+     */
+    public static final class Counter {
+        private final String name;
+        private final AtomicLong value = new AtomicLong();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        public void add(long delta) {
+            value.addAndGet(delta);
+        }
+
+        public long get() {
+            return value.get();
+        }
+
+        void reset() {
+            value.set(0);
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + value.get();
+        }
+    }
+
+    /**
+     * The spread of a measurement, e.g. turn latency. Values go into power-of-two buckets, so
+     * recording is cheap and percentiles are exact to a factor of two
+     */
+    public static final class Histogram {
+        private static final int BUCKETS = 64;
+
+        private final String name;
+        private final long[] buckets = new long[BUCKETS];  // bucket b holds values below 2^b
+        private long count;
+        private long sum;
+        private long max;
+
+        private Histogram(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Record a value
+         * @param value the value, clamped to 0 if negative
+         */
+        public synchronized void record(long value) {
+            long clamped = Math.max(0, value);
+            buckets[64 - Long.numberOfLeadingZeros(clamped)]++;
+            count++;
+            sum += clamped;
+            max = Math.max(max, clamped);
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        public synchronized long getMax() {
+            return max;
+        }
+
+        public synchronized double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Get an upper bound of a percentile
+         * @param percentile the percentile, from 0 to 100
+         * @return the bound of the bucket the percentile falls in, at most the largest value
+         */
+        public synchronized long percentile(double percentile) {
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += buckets[bucket];
+                if (seen >= rank && seen > 0) {
+                    return bucket == 0 ? 0 : Math.min(max, (1L << bucket) - 1);
+                }
+            }
+            return max;
+        }
+
+        synchronized void reset() {
+            Arrays.fill(buckets, 0);
+            count = 0;
+            sum = 0;
+            max = 0;
+        }
+
+        synchronized String bucketsToString() {
+            StringBuilder line = new StringBuilder("  buckets");
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                if (buckets[bucket] != 0) {
+                    line.append(" <").append(bucket == 63 ? Long.MAX_VALUE : 1L << bucket).append(':').append(buckets[bucket]);
+                }
+            }
+            return line.toString();
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("%s n=%d mean=%.1f p50=%d p95=%d max=%d",
+                    name, count, getMean(), percentile(50), percentile(95), max);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.fishingcardgame;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * The GameRandom is the generator behind the shuffles and bot choices of a game. It produces the
+ * same numbers as a SplittableRandom with the same seed, but its whole state is one long that can
+ * be saved with the game, so a resumed game goes on exactly as it would have without the break
+ */
+public final class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long seed;  // advanced by GOLDEN_GAMMA for every number drawn
+
+    /**
+     * Create a generator
+     * @param seed the seed; the same seed gives the same numbers
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Draw a number from 0 up to but not including a bound, without bias
+     * @param bound the bound, greater than 0
+     * @return the number
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // Draw again while the number falls in the incomplete last interval of the bound
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+        }
+        return r;
+    }
+
+    /**
+     * Draw any long
+     * @return the number
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * Create an independent generator seeded from this one, e.g. for a search thread
+     * @return the new generator
+     */
+    public SplittableRandom split() {
+        return new SplittableRandom(nextLong());
+    }
+
+    /**
+     * Write the state, so readFrom() continues the sequence where it is now
+     * @param out where to write the state to
+     * @throws IOException if the state cannot be written
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(seed);
+    }
+
+    /**
+     * Read a state written by writeTo()
+     * @param in where to read the state from
+     * @throws IOException if the state cannot be read
+     */
+    void readFrom(DataInput in) throws IOException {
+        seed = in.readLong();
+    }
+
+    private long nextSeed() {
+        return seed += GOLDEN_GAMMA;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+}
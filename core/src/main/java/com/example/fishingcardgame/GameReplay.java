@@ -0,0 +1,243 @@
+package com.example.fishingcardgame;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The GameReplay steps through one game recorded by an EventLog. A turn is a request, a skipped
+ * or a passed turn, and seek() can jump to the state before any turn. While the replay is built, a
+ * snapshot is kept every few turns, so seeking restores the nearest earlier snapshot and only
+ * applies the records after it instead of replaying the game from the start. Hands are replayed as
+ * bitmasks, so only games played with one deck can be replayed.
+ */
+public class GameReplay {
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 32;
+
+    private final int[] records;
+    private final int end;
+    private final int players;
+    private final int snapshotInterval;
+    private final int[] turnPositions;  // record position of every turn
+    private final GameSnapshot[] snapshots;  // the state before turn k * snapshotInterval
+    private final long seed;
+
+    // The state while applying records
+    private final long[] hands;
+    private final int[] scores;
+    private int round;
+    private int currentSeat;
+    private int deckSize;
+    private long collectedCards;
+
+    /**
+     * Build a replay of the game that starts at a GAME_START record
+     * @param records the records of a log
+     * @param gameStart position of the GAME_START record
+     * @param snapshotInterval number of turns between two snapshots
+     * @throws IllegalArgumentException if no game starts there, it has no players, or it was played
+     *                                  with more than one deck
+     */
+    public GameReplay(int[] records, int gameStart, int snapshotInterval) {
+        if (EventLog.type(records[gameStart]) != EventLog.GAME_START) {
+            throw new IllegalArgumentException("No game starts at record " + gameStart);
+        }
+        int players = EventLog.value(records[gameStart]);
+        if (players == 0) {
+            throw new IllegalArgumentException("The game at record " + gameStart + " has no players");
+        }
+        int decks = EventLog.count(records[gameStart]);
+        if (decks > 1) {
+            throw new IllegalArgumentException("The game at record " + gameStart + " is played with "
+                    + decks + " decks; only one-deck games can be replayed");
+        }
+        this.records = records;
+        this.snapshotInterval = snapshotInterval;
+        this.seed = EventLog.seed(records, gameStart);
+        this.players = players;
+
+        int position = gameStart + 3;
+        int turns = 0;
+        while (position < records.length && EventLog.type(records[position]) != EventLog.GAME_START) {
+            int type = EventLog.type(records[position]);
+            if (type == EventLog.ASK || type == EventLog.SKIP || type == EventLog.PASS) {
+                turns++;
+            }
+            position++;
+        }
+        this.end = position;
+        this.hands = new long[players];
+        this.scores = new int[players];
+
+        turnPositions = new int[turns + 1];
+        snapshots = new GameSnapshot[turns / snapshotInterval + 1];
+        int turn = 0;
+        position = gameStart + 3;
+        while (true) {
+            int next = findTurn(position);
+            if (turn % snapshotInterval == 0) {
+                applyRecords(position, next);
+                position = next;
+                snapshots[turn / snapshotInterval] = snapshot(turn, position);
+            }
+            turnPositions[turn] = next;
+            if (next == end) {
+                break;
+            }
+            applyRecords(position, next + 1);
+            position = next + 1;
+            turn++;
+        }
+    }
+
+    /**
+     * Split a log into the replays of the games it holds
+     * @param records the records of a log
+     * @return one replay per game, in the order they were played
+     * @throws IllegalArgumentException if a game has no players or was played with more than one deck
+     */
+    public static List<GameReplay> ofLog(int[] records) {
+        List<GameReplay> replays = new ArrayList<>();
+        for (int position = 0; position < records.length; position++) {
+            if (EventLog.type(records[position]) == EventLog.GAME_START) {
+                GameReplay replay = new GameReplay(records, position, DEFAULT_SNAPSHOT_INTERVAL);
+                replays.add(replay);
+                position = replay.end - 1;
+            }
+        }
+        return replays;
+    }
+
+    /**
+     * Get the seed the game was played with; a GameLogic with this seed plays it again, also when
+     * the game was saved and resumed on the way, as the save keeps the state of the generator
+     * @return the seed of the game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get number of turns in the game
+     * @return number of turns
+     */
+    public int getTurnCount() {
+        return turnPositions.length - 1;
+    }
+
+    /**
+     * Get the state of the game before a turn
+     * @param turn the turn, from 0 to getTurnCount(); getTurnCount() gives the end of the game
+     * @return the state before the turn
+     */
+    public GameSnapshot seek(int turn) {
+        if (turn < 0 || turn > getTurnCount()) {
+            throw new IndexOutOfBoundsException("Turn " + turn + " of " + getTurnCount());
+        }
+        GameSnapshot start = snapshots[turn / snapshotInterval];
+        restore(start);
+        applyRecords(start.recordPosition, turnPositions[turn]);
+        return snapshot(turn, turnPositions[turn]);
+    }
+
+    private int findTurn(int position) {
+        while (position < end) {
+            int type = EventLog.type(records[position]);
+            if (type == EventLog.ASK || type == EventLog.SKIP || type == EventLog.PASS) {
+                return position;
+            }
+            position++;
+        }
+        return end;
+    }
+
+    private void applyRecords(int from, int to) {
+        for (int position = from; position < to; position++) {
+            apply(records[position]);
+        }
+    }
+
+    private void apply(int record) {
+        int actor = EventLog.actor(record);
+        int value = EventLog.value(record);
+        switch (EventLog.type(record)) {
+            case EventLog.ROUND_START:
+                for (int seat = 0; seat < players; seat++) {
+                    hands[seat] = 0L;
+                }
+                round = value;
+                currentSeat = actor;
+                deckSize = Card.DECK_SIZE;
+                collectedCards = 0L;
+                break;
+            case EventLog.DEAL:
+            case EventLog.DRAW:
+                hands[actor] |= 1L << value;
+                deckSize--;
+                break;
+            case EventLog.ASK:
+                currentSeat = actor;
+                if (EventLog.count(record) > 0) {
+                    int target = EventLog.target(record);
+                    long taken = hands[target] & (Player.RANK_NIBBLE << (value * 4));
+                    hands[target] &= ~taken;
+                    hands[actor] |= taken;
+                } else {
+                    currentSeat = (actor + 1) % players;
+                }
+                break;
+            case EventLog.SET:
+                long set = Player.RANK_NIBBLE << (value * 4);
+                hands[actor] &= ~set;
+                collectedCards |= set;
+                scores[actor]++;
+                break;
+            case EventLog.SKIP:
+            case EventLog.PASS:
+                currentSeat = (actor + 1) % players;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void restore(GameSnapshot snapshot) {
+        for (int seat = 0; seat < players; seat++) {
+            hands[seat] = snapshot.getHand(seat);
+            scores[seat] = snapshot.getScore(seat);
+        }
+        round = snapshot.getRound();
+        currentSeat = snapshot.getCurrentSeat();
+        deckSize = snapshot.getDeckSize();
+        collectedCards = snapshot.getCollectedCards();
+    }
+
+    private GameSnapshot snapshot(int turn, int position) {
+        return new GameSnapshot(turn, round, currentSeat, deckSize, collectedCards, hands, scores, position);
+    }
+
+    /**
+     * Print the state of a recorded game before a turn
+     * @param args the log file, the game in the file (default 0) and the turn (default: the end)
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: GameReplay <log file> [game] [turn]");
+            return;
+        }
+        int[] records;
+        InputStream in = new FileInputStream(args[0]);
+        try {
+            records = EventLog.readAll(in);
+        } finally {
+            in.close();
+        }
+        List<GameReplay> replays = ofLog(records);
+        GameReplay replay = replays.get(args.length > 1 ? Integer.parseInt(args[1]) : 0);
+        int turn = args.length > 2 ? Integer.parseInt(args[2]) : replay.getTurnCount();
+        System.out.println("Game with seed " + replay.getSeed() + ", " + replay.getTurnCount() + " turns");
+        System.out.print(replay.seek(turn));
+    }
+}
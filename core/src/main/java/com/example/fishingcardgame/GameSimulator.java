@@ -0,0 +1,159 @@
+package com.example.fishingcardgame;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The GameSimulator plays whole games without MainActivity. Every seat, including the human one,
+ * is played by the bot logic and all UI events go to a NoOpGameListener, so games can be
+ * simulated in bulk on a plain JVM.
+ */
+public class GameSimulator {
+    private final GameLogic.GameListener listener;
+    private final GameConfig config;
+    private EventLog eventLog = null;
+
+    public GameSimulator() {
+        this(new NoOpGameListener());
+    }
+
+    public GameSimulator(GameLogic.GameListener listener) {
+        this(listener, GameConfig.DEFAULT);
+    }
+
+    /**
+     * Create a simulator for games of any size
+     * @param listener receives the events of every game
+     * @param config number of players and decks of every game
+     */
+    public GameSimulator(GameLogic.GameListener listener, GameConfig config) {
+        this.listener = listener;
+        this.config = config;
+    }
+
+    /**
+     * Play a full game, one round per player
+     * @param seed seed for the shuffles and bot choices; the same seed plays the same game
+     * @return final scores by seat, starting with the human
+     */
+    public int[] playGame(long seed) {
+        return playGame(newGame(seed));
+    }
+
+    /**
+     * Create a game for this simulator, e.g. to change the players' strategies before playing it
+     * @param seed seed for the shuffles and bot choices
+     * @return a game that has not started yet
+     */
+    public GameLogic newGame(long seed) {
+        GameLogic game = new GameLogic(listener, seed, config);
+        game.setEventLog(eventLog);
+        return game;
+    }
+
+    /**
+     * Record every event of the games played from now on
+     * @param eventLog the log to append to, or null to stop recording
+     */
+    public void setEventLog(EventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Play a full game, one round per player
+     * @param game a game created by newGame()
+     * @return final scores by seat
+     */
+    public int[] playGame(GameLogic game) {
+        game.startGame();
+        while (!game.isGameOver()) {
+            if (game.isRoundOver()) {
+                game.setStartNextRound(true);
+                game.setupRound();
+                game.setStartNextRound(false);
+                continue;
+            }
+            playTurn(game);
+        }
+
+        int[] scores = new int[game.getPlayerCount()];
+        for (int seat = 0; seat < scores.length; seat++) {
+            scores[seat] = game.getScore(seat);
+        }
+        return scores;
+    }
+
+    /**
+     * Play one turn of the current player, the same way a click on the next button does
+     * @param game the game being simulated
+     */
+    void playTurn(GameLogic game) {
+        if (game.prepareTurn()) {
+            game.botTurn(game.currentPlayer);
+            game.removeCollectedSets();
+        }
+    }
+
+    /**
+     * Simulate games on all given threads and report the throughput
+     * @param args number of games (default 100000), number of threads (default: all cores),
+     *             base seed (default 1) and optionally a directory to write one event log per
+     *             thread to. Game i is seeded with baseSeed + i. The options players=N and
+     *             decks=M, anywhere, set the size of the games (default 4 players, 1 deck)
+     */
+    public static void main(String[] arguments) throws Exception {
+        List<String> options = new ArrayList<>(Arrays.asList(arguments));
+        final GameConfig config = GameConfig.parseOptions(options);
+        String[] args = options.toArray(new String[0]);
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final long baseSeed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        final File logDirectory = args.length > 3 ? new File(args[3]) : null;
+        if (logDirectory != null && !logDirectory.isDirectory() && !logDirectory.mkdirs()) {
+            throw new IllegalArgumentException("Cannot create " + logDirectory);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            final int firstGame = t;
+            results.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    GameSimulator simulator = new GameSimulator(new NoOpGameListener(), config);
+                    EventLog log = null;
+                    if (logDirectory != null) {
+                        File file = new File(logDirectory, "events-" + firstGame + ".bin");
+                        log = new EventLog(new BufferedOutputStream(new FileOutputStream(file, true)));
+                        simulator.setEventLog(log);
+                    }
+                    for (int i = firstGame; i < games; i += threads) {
+                        simulator.playGame(baseSeed + i);
+                    }
+                    if (log != null) {
+                        log.close();
+                    }
+                    return null;
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        double seconds = elapsed / 1e9;
+        System.out.printf("Simulated %d games of %s on %d threads in %.2f s (%.0f games/sec)%n",
+                games, config, threads, seconds, games / seconds);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.fishingcardgame;
+
+/**
+ * An immutable, compact picture of a game between two turns: every hand as a bitmask, the scores,
+ * the round, the player to move and how many cards are left in the deck
+ */
+public final class GameSnapshot {
+    private final int turn;
+    private final int round;
+    private final int currentSeat;
+    private final int deckSize;
+    private final long collectedCards;
+    private final long[] hands;
+    private final int[] scores;
+    final int recordPosition;  // position in the event log right after this snapshot
+
+    GameSnapshot(int turn, int round, int currentSeat, int deckSize, long collectedCards,
+                 long[] hands, int[] scores, int recordPosition) {
+        this.turn = turn;
+        this.round = round;
+        this.currentSeat = currentSeat;
+        this.deckSize = deckSize;
+        this.collectedCards = collectedCards;
+        this.hands = hands.clone();
+        this.scores = scores.clone();
+        this.recordPosition = recordPosition;
+    }
+
+    /**
+     * Get number of turns played before this snapshot, counting requests, skipped and passed turns
+     * @return number of turns played
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Get the seat of the player to move
+     * @return seat of the player to move
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Get the cards collected as sets this round
+     * @return bitmask with bit card.ordinal() set for every collected card
+     */
+    public long getCollectedCards() {
+        return collectedCards;
+    }
+
+    public int getPlayerCount() {
+        return hands.length;
+    }
+
+    /**
+     * Get the hand of a seat
+     * @param seat the seat
+     * @return bitmask with bit card.ordinal() set for every card in hand
+     */
+    public long getHand(int seat) {
+        return hands[seat];
+    }
+
+    public int getScore(int seat) {
+        return scores[seat];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("Turn ").append(turn).append(", round ").append(round)
+                .append(", seat ").append(currentSeat).append(" to move, ")
+                .append(deckSize).append(" cards in deck\n");
+        for (int seat = 0; seat < hands.length; seat++) {
+            text.append("Seat ").append(seat).append(" (").append(scores[seat]).append(" points):");
+            for (long bits = hands[seat]; bits != 0; bits &= bits - 1) {
+                Card card = Card.of(Long.numberOfTrailingZeros(bits));
+                text.append(' ').append(card.getRank()).append('_').append(card.getSuit());
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+}
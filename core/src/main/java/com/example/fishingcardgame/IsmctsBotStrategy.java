@@ -0,0 +1,249 @@
+package com.example.fishingcardgame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * A bot that picks its request with Information Set Monte Carlo Tree Search (single observer).
+ * Every iteration deals the cards the bot cannot see at random, consistent with the hand sizes,
+ * the deck size, the collected sets and what the KnowledgeTracker knows about every hand, walks
+ * the search tree of the bot's own requests while its turn lasts, and plays the rest of the round
+ * out with every player asking like a KnowledgeBotStrategy. The reward is the share of the
+ * remaining sets the bot collects.
+ *
+ * The search runs one tree per worker of a fork-join pool until the time budget is used up, and
+ * the request visited most often over all trees is chosen. The playouts model a single deck;
+ * with more decks the bot plays like a KnowledgeBotStrategy
+ */
+public class IsmctsBotStrategy implements BotStrategy {
+    private static final double EXPLORATION = 0.7;
+    // Shared by the default bots; the common pool has a worker less than there are cores
+    private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final ForkJoinPool pool;
+    private final BotStrategy multiDeck = new KnowledgeBotStrategy();
+
+    /**
+     * Create a strategy that searches with a worker on every core
+     * @param budgetMillis wall-clock time allowed for each decision
+     */
+    public IsmctsBotStrategy(long budgetMillis) {
+        this(budgetMillis, 0, SEARCH_POOL);
+    }
+
+    /**
+     * Create a strategy
+     * @param budgetMillis wall-clock time allowed for each decision
+     * @param maxIterations iterations per worker and decision, or 0 for no limit
+     * @param pool the pool that runs the searches, one tree per worker
+     */
+    public IsmctsBotStrategy(long budgetMillis, int maxIterations, ForkJoinPool pool) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxIterations = maxIterations;
+        this.pool = pool;
+    }
+
+    @Override
+    public BotMove chooseMove(GameLogic game, Player bot) {
+        if (game.getConfig().getDecks() > 1) {
+            return multiDeck.chooseMove(game, bot);
+        }
+        final List<Player> turnOrder = game.getTurnOrder();
+        final int players = turnOrder.size();
+        final int me = turnOrder.indexOf(bot);
+        final long myHand = bot.getHandMask();
+        final int[] handSizes = new int[players];
+        int[] seats = new int[players];
+        long unknownCards = ~(myHand | game.getCollectedCards()) & ((1L << Card.DECK_SIZE) - 1);
+        for (int p = 0; p < players; p++) {
+            handSizes[p] = turnOrder.get(p).getHandSize();
+            seats[p] = turnOrder.get(p).getSeat();
+        }
+        final int[] unknown = new int[Long.bitCount(unknownCards)];
+        for (int i = 0; unknownCards != 0; unknownCards &= unknownCards - 1) {
+            unknown[i++] = Long.numberOfTrailingZeros(unknownCards);
+        }
+        final int setsLeft = Card.RANKS.length - Long.bitCount(game.getCollectedCards()) / 4;
+
+        // Nothing to search if there is only one legal request
+        long myRanks = Player.heldRanks(myHand);
+        int targetCount = 0;
+        int onlyTarget = -1;
+        for (int p = 0; p < players; p++) {
+            if (p != me && handSizes[p] > 0) {
+                targetCount++;
+                onlyTarget = p;
+            }
+        }
+        if (targetCount == 1 && Long.bitCount(myRanks) == 1) {
+            return new BotMove(turnOrder.get(onlyTarget), Card.RANKS[Long.numberOfTrailingZeros(myRanks) >>> 2]);
+        }
+
+        final long deadline = System.nanoTime() + budgetNanos;
+        List<Callable<double[]>> searches = new ArrayList<>();
+        for (int w = 0; w < pool.getParallelism(); w++) {
+            final SplittableRandom random = game.getRandom().split();
+            final SimulatedRound round = new SimulatedRound(players);
+            round.observe(game.getKnowledge(), seats);
+            searches.add(new Callable<double[]>() {
+                @Override
+                public double[] call() {
+                    return search(round, me, myHand, handSizes, unknown.clone(), setsLeft, deadline, random);
+                }
+            });
+        }
+
+        double[] visits = new double[players * Card.RANKS.length];
+        try {
+            for (Future<double[]> result : pool.invokeAll(searches)) {
+                double[] workerVisits = result.get();
+                for (int m = 0; m < visits.length; m++) {
+                    visits[m] += workerVisits[m];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("ISMCTS search failed", e.getCause());
+        }
+
+        int best = -1;
+        for (int m = 0; m < visits.length; m++) {
+            int target = m / Card.RANKS.length;
+            int rankIndex = m % Card.RANKS.length;
+            boolean legal = target != me && handSizes[target] > 0 && (myRanks & (1L << (rankIndex * 4))) != 0;
+            if (legal && (best < 0 || visits[m] > visits[best])) {
+                best = m;
+            }
+        }
+        return new BotMove(turnOrder.get(best / Card.RANKS.length), Card.RANKS[best % Card.RANKS.length]);
+    }
+
+    /**
+     * Grow one search tree until the deadline or the iteration limit
+     * @param round the round to deal the iterations in, knowing what the bot knows
+     * @return visit count of each request at the root, indexed by target * 13 + rankIndex
+     */
+    private double[] search(SimulatedRound round, int me, long myHand, int[] handSizes, int[] unknown,
+                            int setsLeft, long deadline, SplittableRandom random) {
+        int players = round.players;
+        Node root = new Node(null, -1);
+        List<Node> legal = new ArrayList<>();
+        List<Integer> untried = new ArrayList<>();
+
+        for (int iteration = 0; maxIterations == 0 || iteration < maxIterations; iteration++) {
+            if (System.nanoTime() >= deadline && iteration > 0) {
+                break;
+            }
+            round.deal(me, myHand, handSizes, unknown, me, setsLeft, random);
+
+            // Selection and expansion, over the bot's own requests while its turn lasts
+            Node node = root;
+            while (!round.isOver() && round.current == me) {
+                if (!round.prepareTurn()) {
+                    break;
+                }
+                if (!round.hasTarget()) {
+                    round.drawAndPass();
+                    break;
+                }
+                legal.clear();
+                untried.clear();
+                for (int p = 0; p < players; p++) {
+                    if (p == me || round.hands[p] == 0) {
+                        continue;
+                    }
+                    for (int ranks = round.requestRanks(p); ranks != 0; ranks &= ranks - 1) {
+                        int move = p * Card.RANKS.length + Integer.numberOfTrailingZeros(ranks);
+                        Node child = node.child(move);
+                        if (child == null) {
+                            untried.add(move);
+                        } else {
+                            legal.add(child);
+                        }
+                    }
+                }
+                for (int i = 0; i < legal.size(); i++) {
+                    legal.get(i).availability++;
+                }
+
+                Node chosen;
+                if (!untried.isEmpty()) {
+                    chosen = node.addChild(untried.get(random.nextInt(untried.size())));
+                } else {
+                    chosen = legal.get(0);
+                    double bestScore = chosen.ucb();
+                    for (int i = 1; i < legal.size(); i++) {
+                        double score = legal.get(i).ucb();
+                        if (score > bestScore) {
+                            bestScore = score;
+                            chosen = legal.get(i);
+                        }
+                    }
+                }
+                node = chosen;
+                boolean again = round.ask(chosen.move / Card.RANKS.length, chosen.move % Card.RANKS.length);
+                if (!untried.isEmpty() || !again) {
+                    break;
+                }
+            }
+
+            // Simulation and backpropagation
+            round.playOut(random);
+            double reward = setsLeft == 0 ? 0 : (double) round.sets[me] / setsLeft;
+            for (; node != null; node = node.parent) {
+                node.visits++;
+                node.reward += reward;
+            }
+        }
+
+        double[] visits = new double[players * Card.RANKS.length];
+        for (Node child : root.children) {
+            visits[child.move] = child.visits;
+        }
+        return visits;
+    }
+
+    /**
+     * A node of the search tree, reached by one request of the bot
+     */
+    private static final class Node {
+        final Node parent;
+        final int move;  // target * 13 + rankIndex
+        final List<Node> children = new ArrayList<>();
+        int visits;
+        int availability = 1;
+        double reward;
+
+        Node(Node parent, int move) {
+            this.parent = parent;
+            this.move = move;
+        }
+
+        Node child(int move) {
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i).move == move) {
+                    return children.get(i);
+                }
+            }
+            return null;
+        }
+
+        Node addChild(int move) {
+            Node child = new Node(this, move);
+            children.add(child);
+            return child;
+        }
+
+        double ucb() {
+            return reward / visits + EXPLORATION * Math.sqrt(Math.log(availability) / visits);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.fishingcardgame;
+
+import java.util.List;
+
+/**
+ * A bot that uses the KnowledgeTracker. It asks for a rank it knows the target holds whenever it
+ * can, and otherwise for the rank it holds most of, from a player not known to lack it and with
+ * as many cards as possible. Ties are broken at random
+ */
+public class KnowledgeBotStrategy implements BotStrategy {
+    private final BotStrategy fallback = new RandomBotStrategy();
+
+    @Override
+    public BotMove chooseMove(GameLogic game, Player bot) {
+        KnowledgeTracker knowledge = game.getKnowledge();
+        List<Player> validTargets = game.getValidTargets(bot);
+        long hand = bot.getHandMask();
+
+        Player bestTarget = null;
+        int bestRank = -1;
+        boolean bestSure = false;
+        int bestCount = 0;
+        int bestSize = 0;
+        int ties = 0;
+        for (int t = 0; t < validTargets.size(); t++) {
+            Player target = validTargets.get(t);
+            int held = knowledge.knownHeld(target.getSeat());
+            int missing = knowledge.knownMissing(target.getSeat());
+            for (long ranks = Player.heldRanks(hand); ranks != 0; ranks &= ranks - 1) {
+                int bit = Long.numberOfTrailingZeros(ranks);
+                int rankIndex = bit >>> 2;
+                if ((missing & (1 << rankIndex)) != 0) {
+                    continue;
+                }
+                // A sure hit beats everything, then more of the rank in hand, then bigger targets
+                boolean sure = (held & (1 << rankIndex)) != 0;
+                int count = bot.getRankCount(rankIndex);
+                int size = target.getHandSize();
+                int order = bestTarget == null ? 1 : Boolean.compare(sure, bestSure);
+                if (order == 0) {
+                    order = Integer.compare(count, bestCount);
+                }
+                if (order == 0) {
+                    order = Integer.compare(size, bestSize);
+                }
+                if (order > 0) {
+                    bestTarget = target;
+                    bestRank = rankIndex;
+                    bestSure = sure;
+                    bestCount = count;
+                    bestSize = size;
+                    ties = 1;
+                } else if (order == 0 && game.getRandom().nextInt(++ties) == 0) {
+                    bestTarget = target;
+                    bestRank = rankIndex;
+                }
+            }
+        }
+
+        if (bestTarget == null) {
+            // Every target is known to lack every rank in hand, so any request is as good
+            return fallback.chooseMove(game, bot);
+        }
+        return new BotMove(bestTarget, Card.RANKS[bestRank]);
+    }
+}
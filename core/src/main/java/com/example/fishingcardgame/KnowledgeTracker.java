@@ -0,0 +1,162 @@
+package com.example.fishingcardgame;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The KnowledgeTracker keeps what every player can deduce from public events: a player who asks
+ * for a rank holds it, and an asked player no longer holds it afterwards. Cards handed over are
+ * shown, so the receiver is known to hold those very cards. Knowledge is kept per seat as rank
+ * bitmasks, bit rankIndex for each rank, and card bitmasks, and every event updates it in O(1)
+ */
+public class KnowledgeTracker {
+    private final int[] holds;  // ranks each seat is known to hold
+    private final int[] lacks;  // ranks each seat is known not to hold
+    private final int[] hidden;  // ranks each seat holds a card of that has not been shown
+    private final long[] shown;  // cards each seat holds because they were handed over to it
+    private int collectedRanks = 0;  // ranks collected as sets this round, held by nobody
+
+    public KnowledgeTracker(int seats) {
+        holds = new int[seats];
+        lacks = new int[seats];
+        hidden = new int[seats];
+        shown = new long[seats];
+    }
+
+    /**
+     * Forget everything at the start of a round
+     */
+    public void reset() {
+        for (int seat = 0; seat < holds.length; seat++) {
+            holds[seat] = 0;
+            lacks[seat] = 0;
+            hidden[seat] = 0;
+            shown[seat] = 0L;
+        }
+        collectedRanks = 0;
+    }
+
+    /**
+     * Record a request
+     * @param asker seat of the asking player
+     * @param target seat of the asked player
+     * @param rankIndex the rank asked for
+     * @param cards bitmask of the cards the asked player handed over, 0 on failure
+     */
+    public void onAsk(int asker, int target, int rankIndex, long cards) {
+        int rank = 1 << rankIndex;
+        long nibble = Player.RANK_NIBBLE << (rankIndex * 4);
+        // Players may only ask for ranks they hold, and the target has none left either way
+        holds[asker] |= rank;
+        lacks[asker] &= ~rank;
+        if ((shown[asker] & nibble) == 0) {
+            hidden[asker] |= rank;
+        }
+        shown[asker] |= cards;
+        holds[target] &= ~rank;
+        lacks[target] |= rank;
+        hidden[target] &= ~rank;
+        shown[target] &= ~nibble;
+    }
+
+    /**
+     * Record that a player drew a card the others cannot see
+     * @param seat seat of the drawing player
+     */
+    public void onDraw(int seat) {
+        // The drawn card may be of any rank
+        lacks[seat] = 0;
+    }
+
+    /**
+     * Record that a set has been collected, so nobody holds the rank anymore
+     * @param rankIndex the collected rank
+     */
+    public void onSetCollected(int rankIndex) {
+        collectedRanks |= 1 << rankIndex;
+        for (int seat = 0; seat < shown.length; seat++) {
+            shown[seat] &= ~(Player.RANK_NIBBLE << (rankIndex * 4));
+        }
+    }
+
+    /**
+     * Record that a player handed in a set. With more than one deck the player may still hold
+     * copies of the rank, but nobody else can tell, so nothing is known about them anymore
+     * @param seat seat of the player
+     * @param rankIndex the rank of the set
+     */
+    public void onSetHandedIn(int seat, int rankIndex) {
+        holds[seat] &= ~(1 << rankIndex);
+        hidden[seat] &= ~(1 << rankIndex);
+        shown[seat] &= ~(Player.RANK_NIBBLE << (rankIndex * 4));
+    }
+
+    /**
+     * Get the ranks a seat is known to hold
+     * @param seat the seat
+     * @return bitmask with bit rankIndex set for each rank known to be held
+     */
+    public int knownHeld(int seat) {
+        return holds[seat] & ~collectedRanks;
+    }
+
+    /**
+     * Get the ranks a seat is known not to hold
+     * @param seat the seat
+     * @return bitmask with bit rankIndex set for each rank known to be missing
+     */
+    public int knownMissing(int seat) {
+        return lacks[seat] | collectedRanks;
+    }
+
+    /**
+     * Get the ranks a seat is known to hold a card of besides the cards it was shown to receive:
+     * it asked for the rank before any card of it was handed to it
+     * @param seat the seat
+     * @return bitmask with bit rankIndex set for each rank with a card nobody has seen
+     */
+    public int knownHidden(int seat) {
+        return hidden[seat] & ~collectedRanks;
+    }
+
+    /**
+     * Get the cards a seat is known to hold because they were handed to it in the open; with more
+     * than one deck a bit stands for one copy or more
+     * @param seat the seat
+     * @return bitmask with bit card.ordinal() set for each card known to be held
+     */
+    public long knownCards(int seat) {
+        return shown[seat];
+    }
+
+    /**
+     * Write everything known so far
+     * @param out where to write the knowledge to
+     * @throws IOException if the knowledge cannot be written
+     */
+    void writeTo(DataOutput out) throws IOException {
+        for (int seat = 0; seat < holds.length; seat++) {
+            out.writeShort(holds[seat]);
+            out.writeShort(lacks[seat]);
+            out.writeShort(hidden[seat]);
+            out.writeLong(shown[seat]);
+        }
+        out.writeShort(collectedRanks);
+    }
+
+    /**
+     * Read knowledge written by writeTo() for the same number of seats
+     * @param in where to read the knowledge from
+     * @throws IOException if the knowledge cannot be read
+     */
+    void readFrom(DataInput in) throws IOException {
+        for (int seat = 0; seat < holds.length; seat++) {
+            holds[seat] = in.readUnsignedShort();
+            lacks[seat] = in.readUnsignedShort();
+            hidden[seat] = in.readUnsignedShort();
+            shown[seat] = in.readLong();
+        }
+        collectedRanks = in.readUnsignedShort();
+    }
+}
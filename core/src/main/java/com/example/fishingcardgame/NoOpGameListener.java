@@ -0,0 +1,60 @@
+package com.example.fishingcardgame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A GameListener that ignores every event. It lets GameLogic run without any UI attached,
+ * e.g. for headless simulations on a plain JVM
+ */
+public class NoOpGameListener implements GameLogic.GameListener {
+
+    @Override
+    public void onScoreUpdate(int humanScore, int[] botScores) { }
+
+    @Override
+    public void onGameOver(String winnerMessage) { }
+
+    @Override
+    public void onCardDistributed(Player player, Card card) { }
+
+    @Override
+    public void showCardAnimation() { }
+
+    @Override
+    public void playRound() { }
+
+    @Override
+    public void updateHumanHandView() { }
+
+    @Override
+    public void requestResult(Player askingPlayer, boolean requestSuccess, String rankAsked,
+                              Player target, int numberCardReceived, boolean score) { }
+
+    @Override
+    public void passResult(Player player, boolean drew, boolean score) { }
+
+    @Override
+    public void disableButtons() { }
+
+    @Override
+    public void enableButtons() { }
+
+    @Override
+    public void transferCardAnimation(Player humanPlayer, Player target, List<Card> cardsReceived) { }
+
+    @Override
+    public void scorePoint(Player aPlayer, ArrayList<Card> collectedCards) { }
+
+    @Override
+    public void updateBotHandView(Player bot) { }
+
+    @Override
+    public void updateSpinner() { }
+
+    @Override
+    public void onDeckEmpty() { }
+
+    @Override
+    public void refillDeck() { }
+}
@@ -0,0 +1,310 @@
+package com.example.fishingcardgame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Player class is responsible for possible actions that player  object can perform.
+ * A hand may hold several copies of a card when more than one deck is in play: the bitmask tells
+ * which cards are held, and counts per card and per rank tell how many, so adding or taking a
+ * card and finding complete sets cost the same whatever the number of decks
+ */
+public class Player {
+    // Each rank owns a 4-bit nibble of the hand bitmask, one bit per suit
+    static final long RANK_NIBBLE = 0xFL;
+    // The lowest bit of every rank nibble
+    static final long NIBBLE_BASES = 0x1111111111111L;
+
+    private String name;
+    private int seat = 0;
+    private BotStrategy strategy = new RandomBotStrategy();
+    private long hand;  // bit card.ordinal() is set when at least one copy of the card is in hand
+    private final byte[] copies = new byte[Card.DECK_SIZE];  // copies in hand by card ordinal
+    private final byte[] rankCounts = new byte[Card.RANKS.length];  // cards in hand by rank index
+    private long fullRanks;  // lowest bit of the nibble of every rank with 4 or more cards in hand
+    private int size;
+    private final List<Card> handList = new ArrayList<>();
+    private boolean handListStale = false;
+    private int score;
+
+    public Player(String name) {
+        this.name = name;
+        this.score = 0;
+    }
+
+    /**
+     * Get name of player
+     * @return name of player
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the seat of player at the table, 0 for the human and 1 to 3 for the bots
+     * @return seat of player
+     */
+    public int getSeat() {
+        return seat;
+    }
+
+    void setSeat(int seat) {
+        this.seat = seat;
+    }
+
+    /**
+     * Get the strategy that decides this player's moves when it is played by a bot
+     * @return the bot strategy
+     */
+    public BotStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Set the strategy that decides this player's moves when it is played by a bot
+     * @param strategy the bot strategy
+     */
+    public void setStrategy(BotStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Get all cards of player, ordered by rank
+     * @return all cards of player
+     */
+    public List<Card> getHand() {
+        if (handListStale) {
+            handList.clear();
+            for (long bits = hand; bits != 0; bits &= bits - 1) {
+                int ordinal = Long.numberOfTrailingZeros(bits);
+                for (int copy = 0; copy < copies[ordinal]; copy++) {
+                    handList.add(Card.of(ordinal));
+                }
+            }
+            handListStale = false;
+        }
+        return handList;
+    }
+
+    /**
+     * Get the hand as a bitmask
+     * @return bitmask with bit card.ordinal() set for every card in hand, however many copies
+     */
+    public long getHandMask() {
+        return hand;
+    }
+
+    /**
+     * Get number of cards in hand
+     * @return number of cards in hand
+     */
+    public int getHandSize() {
+        return size;
+    }
+
+    /**
+     * Get number of cards of a rank in hand
+     * @param rankIndex index of the rank in Card.RANKS
+     * @return number of cards of the rank, counting every copy
+     */
+    public int getRankCount(int rankIndex) {
+        return rankCounts[rankIndex];
+    }
+
+    /**
+     * Add new card to player hand
+     * @param card the card that will be added
+     */
+    public void addCard(Card card) {
+        int ordinal = card.ordinal();
+        int rankIndex = ordinal >>> 2;
+        if (copies[ordinal]++ == 0) {
+            hand |= 1L << ordinal;
+        }
+        if (++rankCounts[rankIndex] == 4) {
+            fullRanks |= 1L << (rankIndex * 4);
+        }
+        size++;
+        handListStale = true;
+    }
+
+    public void addCards(List<Card> cards) {
+        for (int i = 0; i < cards.size(); i++) {
+            addCard(cards.get(i));
+        }
+    }
+
+    /**
+     * Add a slice of cards to player hand
+     * @param cards the cards to add from
+     * @param from position of the first card to add
+     * @param count number of cards to add
+     */
+    public void addCards(Card[] cards, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            addCard(cards[i]);
+        }
+    }
+
+    public void sortHand() {
+        // The hand is kept in rank order, so only the cached list needs rebuilding
+        handListStale = true;
+    }
+
+    public List<String> getValidRanks() {
+        List<String> ranks = new ArrayList<>();
+        for (long bases = heldRanks(); bases != 0; bases &= bases - 1) {
+            ranks.add(Card.RANKS[Long.numberOfTrailingZeros(bases) >>> 2]);
+        }
+        return ranks;
+    }
+
+    /**
+     * Check if a player has a rank
+     * @param rank the rank that will be used to check
+     * @return true if a player has the rank
+     */
+    public boolean hasRank(String rank) {
+        return hasRank(Card.rankToIndex(rank));
+    }
+
+    /**
+     * Check if a player has a rank
+     * @param rankIndex index of the rank in Card.RANKS
+     * @return true if a player has the rank
+     */
+    public boolean hasRank(int rankIndex) {
+        return rankIndex >= 0 && (hand & (RANK_NIBBLE << (rankIndex * 4))) != 0;
+    }
+
+    /**
+     * Remove all cards with a rank from a player hand
+     * @param rank the rank that is in request
+     * @return all cards that have the rank
+     */
+    public List<Card> giveCards(String rank) {
+        return takeRank(Card.rankToIndex(rank));
+    }
+
+    /**
+     * Get the ranks of the complete sets in hand
+     * @return one rank for every 4 cards of a rank in hand, so a rank may be listed more than once
+     */
+    public List<String> checkForSets() {
+        List<String> collectedRanks = new ArrayList<>();
+        for (long sets = completedSets(); sets != 0; sets &= sets - 1) {
+            int rankIndex = Long.numberOfTrailingZeros(sets) >>> 2;
+            for (int set = rankCounts[rankIndex] / 4; set > 0; set--) {
+                collectedRanks.add(Card.RANKS[rankIndex]);
+            }
+        }
+        return collectedRanks;
+    }
+
+    /**
+     * Find every rank with 4 or more cards in hand; with one deck these hold all 4 suits
+     * @return bitmask with the lowest bit of each complete rank nibble set
+     */
+    public long completedSets() {
+        return fullRanks;
+    }
+
+    /**
+     * Find every rank with all 4 suits in a hand bitmask
+     * @param hand the hand bitmask
+     * @return bitmask with the lowest bit of each complete rank nibble set
+     */
+    static long completedSets(long hand) {
+        return hand & (hand >>> 1) & (hand >>> 2) & (hand >>> 3) & NIBBLE_BASES;
+    }
+
+    /**
+     * Helper method to remove a collected set from the player's hand
+     * @param rank that will be removed
+     * @return a set of 4 cards of the same rank, of different suits where the hand allows
+     */
+    public ArrayList<Card> removeSet(String rank) {
+        int rankIndex = Card.rankToIndex(rank);
+        ArrayList<Card> removed = new ArrayList<>(4);
+        if (rankIndex < 0 || rankCounts[rankIndex] < 4) {
+            return removed;
+        }
+        // Take one copy of each suit in turn; with one deck that is the whole rank
+        for (int suit = 0; removed.size() < 4; suit = (suit + 1) & 3) {
+            int ordinal = rankIndex * 4 + suit;
+            if (copies[ordinal] > 0) {
+                if (--copies[ordinal] == 0) {
+                    hand &= ~(1L << ordinal);
+                }
+                removed.add(Card.of(ordinal));
+            }
+        }
+        rankCounts[rankIndex] -= 4;
+        if (rankCounts[rankIndex] < 4) {
+            fullRanks &= ~(1L << (rankIndex * 4));
+        }
+        size -= 4;
+        handListStale = true;
+        return removed;
+    }
+
+    /**
+     * Remove all cards of a rank from the hand
+     * @param rankIndex index of the rank in Card.RANKS
+     * @return the removed cards
+     */
+    private ArrayList<Card> takeRank(int rankIndex) {
+        ArrayList<Card> removed = new ArrayList<>(4);
+        if (rankIndex < 0) {
+            return removed;
+        }
+        for (int ordinal = rankIndex * 4; ordinal < rankIndex * 4 + 4; ordinal++) {
+            for (int copy = 0; copy < copies[ordinal]; copy++) {
+                removed.add(Card.of(ordinal));
+            }
+            copies[ordinal] = 0;
+        }
+        hand &= ~(RANK_NIBBLE << (rankIndex * 4));
+        fullRanks &= ~(1L << (rankIndex * 4));
+        size -= rankCounts[rankIndex];
+        rankCounts[rankIndex] = 0;
+        handListStale = true;
+        return removed;
+    }
+
+    private long heldRanks() {
+        return heldRanks(hand);
+    }
+
+    /**
+     * Get the lowest bit of every rank nibble that holds at least one card
+     * @param hand the hand bitmask
+     * @return bitmask with the lowest bit of each held rank nibble set
+     */
+    static long heldRanks(long hand) {
+        long ranks = hand | (hand >>> 1);
+        ranks |= ranks >>> 2;
+        return ranks & NIBBLE_BASES;
+    }
+
+    /**
+     * Clear all hand of player
+     */
+    public void clearHand() {
+        hand = 0L;
+        Arrays.fill(copies, (byte) 0);
+        Arrays.fill(rankCounts, (byte) 0);
+        fullRanks = 0L;
+        size = 0;
+        handListStale = true;
+    }
+
+    /**
+     * Check if player is human
+     * @return true if player is human
+     */
+    public boolean isHuman() {
+        return name.equals("Human");
+    }
+}
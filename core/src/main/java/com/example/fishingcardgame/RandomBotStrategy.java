@@ -0,0 +1,18 @@
+package com.example.fishingcardgame;
+
+import java.util.List;
+
+/**
+ * The original bot behaviour: ask a random player that holds cards for a random rank in hand
+ */
+public class RandomBotStrategy implements BotStrategy {
+
+    @Override
+    public BotMove chooseMove(GameLogic game, Player bot) {
+        List<Player> validTargets = game.getValidTargets(bot);
+        Player target = validTargets.get(game.getRandom().nextInt(validTargets.size()));
+        List<String> validRanks = bot.getValidRanks();
+        String rankAsked = validRanks.get(game.getRandom().nextInt(validRanks.size()));
+        return new BotMove(target, rankAsked);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.fishingcardgame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+
+/**
+ * A game saved between two steps, in a compact binary form of about 200 bytes for one deck, so a
+ * game can be continued after the process was killed. The bytes are laid out as
+ * <pre>
+ *   int     magic "FCGS"
+ *   byte    version
+ *   byte    engine state, int turn
+ *   ...     the game, see GameLogic.writeState()
+ *   long    CRC32 of everything before it
+ * </pre>
+ * A file of another version or with a wrong checksum is not read, and a new game is started instead.
+ */
+final class SavedGame {
+    static final int MAGIC = 0x46434753;  // "FCGS"
+    static final int VERSION = 1;
+
+    final int state;  // ordinal of the GameEngine state
+    final int turn;
+
+    private SavedGame(int state, int turn) {
+        this.state = state;
+        this.turn = turn;
+    }
+
+    /**
+     * Save a game
+     * @param game the game
+     * @param state ordinal of the engine state
+     * @param turn number of turns played
+     * @return the saved game
+     */
+    static byte[] write(GameLogic game, int state, int turn) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeByte(state);
+            out.writeInt(turn);
+            game.writeState(out);
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeLong(crc.getValue());
+        } catch (IOException e) {
+            throw new AssertionError(e);  // writing to memory does not fail
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Continue a saved game, replacing the state of a game
+     * @param data the saved game
+     * @param game the game to continue it in
+     * @return the engine state and turn of the saved game
+     * @throws IOException if the data is not a saved game of this version or of another table;
+     *                     the game is then left as it was
+     */
+    static SavedGame read(byte[] data, GameLogic game) throws IOException {
+        if (data.length < 8) {
+            throw new IOException("Saved game is cut short");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 8);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        try {
+            in.skipBytes(data.length - 8);
+            if (in.readLong() != crc.getValue()) {
+                throw new IOException("Saved game is corrupt");
+            }
+            in = new DataInputStream(new ByteArrayInputStream(data, 0, data.length - 8));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a saved game");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Saved game has version " + version + ", not " + VERSION);
+            }
+            SavedGame saved = new SavedGame(in.readUnsignedByte(), in.readInt());
+            game.readState(in);
+            return saved;
+        } catch (RuntimeException e) {
+            throw new IOException("Saved game is corrupt", e);
+        }
+    }
+
+    /**
+     * Read a whole file
+     * @param file the file
+     * @return its content
+     * @throws IOException if the file cannot be read
+     */
+    static byte[] readFile(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            byte[] data = new byte[(int) file.length()];
+            in.readFully(data);
+            return data;
+        }
+    }
+
+    /**
+     * Replace a file in one go: the data goes to a temporary file first, which is then renamed,
+     * so a process killed while writing leaves the old file as it was
+     * @param file the file
+     * @param data the new content
+     * @throws IOException if the file cannot be written
+     */
+    static void writeFile(File file, byte[] data) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(data);
+            out.getFD().sync();
+        }
+        if (!temp.renameTo(file)) {
+            throw new IOException("Cannot replace " + file);
+        }
+    }
+}
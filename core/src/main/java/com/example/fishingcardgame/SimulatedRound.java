@@ -0,0 +1,365 @@
+package com.example.fishingcardgame;
+
+import java.util.SplittableRandom;
+
+/**
+ * A compact copy of a round, with hands as bitmasks and players identified by their position in
+ * the turn order. Bots use it to play out many possible continuations of the real round quickly.
+ * It follows the same rules as GameLogic, and collected sets are removed right away. It also keeps
+ * the public knowledge of the KnowledgeTracker, so the players of a playout can ask like a
+ * KnowledgeBotStrategy
+ */
+final class SimulatedRound {
+    // Guards against endless playouts; a real round needs far fewer steps
+    private static final int MAX_STEPS = 10_000;
+
+    final int players;
+    final long[] hands;
+    final int[] sets;  // sets collected during the simulation, by position
+    // What the observer knows at the start, set by observe() and kept by every deal()
+    private final long[] shownCards;  // cards each position was seen to receive
+    private final int[] hiddenRanks;  // ranks each position holds a card of besides those
+    private final int[] heldRanks;  // ranks each position is known to hold
+    private final int[] missingRanks;  // ranks each position is known not to hold
+    // The public knowledge during a playout, bit rankIndex per rank
+    private final int[] known;  // ranks each position is known to hold
+    private final int[] lacking;  // ranks each position is known not to hold
+    private final int[] dealt;  // cards dealt to each position by deal()
+    private final int[] sizes;  // hand sizes of the targets while choosing a request
+    private final int[] deck = new int[Card.DECK_SIZE];
+    private int deckTop;
+    private int deckEnd;
+    int current;  // position of the player to move
+    int setsLeft;
+
+    SimulatedRound(int players) {
+        this.players = players;
+        this.hands = new long[players];
+        this.sets = new int[players];
+        this.shownCards = new long[players];
+        this.hiddenRanks = new int[players];
+        this.heldRanks = new int[players];
+        this.missingRanks = new int[players];
+        this.known = new int[players];
+        this.lacking = new int[players];
+        this.dealt = new int[players];
+        this.sizes = new int[players];
+    }
+
+    /**
+     * Take over what is publicly known about every player, for the rounds dealt afterwards
+     * @param knowledge the knowledge of the real game
+     * @param seats seat of the player at every position
+     */
+    void observe(KnowledgeTracker knowledge, int[] seats) {
+        for (int p = 0; p < players; p++) {
+            shownCards[p] = knowledge.knownCards(seats[p]);
+            hiddenRanks[p] = knowledge.knownHidden(seats[p]);
+            heldRanks[p] = knowledge.knownHeld(seats[p]);
+            missingRanks[p] = knowledge.knownMissing(seats[p]);
+        }
+    }
+
+    /**
+     * Deal a random round that is consistent with what one player can see. The unknown cards are
+     * shuffled and dealt to the other players according to their hand sizes and the knowledge
+     * given to observe(): every player gets the cards it was seen to receive, a card of each rank
+     * it is known to hold besides those, and where the cards allow none of a rank it is known to
+     * lack. The rest becomes the deck
+     * @param me position of the observing player
+     * @param myHand hand of the observing player
+     * @param handSizes hand size of every player
+     * @param unknown ordinals of all cards the observer cannot see, modified by the shuffle
+     * @param current position of the player to move
+     * @param setsLeft number of sets not yet collected this round
+     * @param random generator for the shuffle
+     */
+    void deal(int me, long myHand, int[] handSizes, int[] unknown, int current, int setsLeft,
+              SplittableRandom random) {
+        for (int i = unknown.length - 1; i > 0; i--) {
+            swap(unknown, i, random.nextInt(i + 1));
+        }
+        for (int p = 0; p < players; p++) {
+            sets[p] = 0;
+            hands[p] = p == me ? myHand : 0L;
+            known[p] = heldRanks[p];
+            lacking[p] = missingRanks[p];
+            dealt[p] = 0;
+        }
+        // The cards from next on are still to be dealt; a card dealt is swapped to next
+        int next = 0;
+        for (int p = 0; p < players; p++) {
+            for (int i = next; p != me && shownCards[p] != 0 && i < unknown.length; i++) {
+                if ((shownCards[p] & (1L << unknown[i])) != 0) {
+                    next = dealTo(p, unknown, i, next);
+                }
+            }
+        }
+        for (int p = 0; p < players; p++) {
+            for (int ranks = hiddenRanks[p]; p != me && ranks != 0 && dealt[p] < handSizes[p]; ranks &= ranks - 1) {
+                int rankIndex = Integer.numberOfTrailingZeros(ranks);
+                for (int i = next; i < unknown.length; i++) {
+                    if (unknown[i] >>> 2 == rankIndex) {
+                        next = dealTo(p, unknown, i, next);
+                        break;
+                    }
+                }
+            }
+        }
+        for (int p = 0; p < players; p++) {
+            for (int i = next; p != me && i < unknown.length && dealt[p] < handSizes[p]; i++) {
+                if ((missingRanks[p] & (1 << (unknown[i] >>> 2))) == 0) {
+                    next = dealTo(p, unknown, i, next);
+                }
+            }
+        }
+        // Knowledge the cards left cannot satisfy is given up rather than the hand sizes
+        for (int p = 0; p < players; p++) {
+            while (p != me && dealt[p] < handSizes[p]) {
+                next = dealTo(p, unknown, next, next);
+            }
+        }
+        deckTop = 0;
+        deckEnd = unknown.length - next;
+        System.arraycopy(unknown, next, deck, 0, deckEnd);
+        this.current = current;
+        this.setsLeft = setsLeft;
+    }
+
+    /**
+     * Deal one of the cards still to be dealt to a player
+     * @return the position of the next card to be dealt
+     */
+    private int dealTo(int player, int[] unknown, int card, int next) {
+        hands[player] |= 1L << unknown[card];
+        dealt[player]++;
+        swap(unknown, card, next);
+        return next + 1;
+    }
+
+    private static void swap(int[] cards, int i, int j) {
+        int temp = cards[i];
+        cards[i] = cards[j];
+        cards[j] = temp;
+    }
+
+    boolean isOver() {
+        return setsLeft == 0;
+    }
+
+    boolean isDeckEmpty() {
+        return deckTop == deckEnd;
+    }
+
+    /**
+     * Let the player to move draw a card if their hand is empty, or pass the turn on when the
+     * deck is empty too, like GameLogic.prepareTurn()
+     * @return true if the player to move can ask for a rank
+     */
+    boolean prepareTurn() {
+        if (hands[current] == 0 && !isDeckEmpty()) {
+            draw(current);
+        }
+        if (hands[current] == 0) {
+            passTurn();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check if the player to move has somebody to ask
+     * @return true if another player holds a card
+     */
+    boolean hasTarget() {
+        for (int p = 0; p < players; p++) {
+            if (p != current && hands[p] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the ranks worth asking a target for: those in hand the target is not known to lack, or all
+     * of them when every player is known to lack every one
+     * @param target position of the player to ask
+     * @return bitmask with bit rankIndex set for each rank worth asking for
+     */
+    int requestRanks(int target) {
+        int myRanks = 0;
+        for (long ranks = Player.heldRanks(hands[current]); ranks != 0; ranks &= ranks - 1) {
+            myRanks |= 1 << (Long.numberOfTrailingZeros(ranks) >>> 2);
+        }
+        for (int p = 0; p < players; p++) {
+            if (p != current && hands[p] != 0 && (myRanks & ~lacking[p]) != 0) {
+                return myRanks & ~lacking[target];
+            }
+        }
+        return myRanks;
+    }
+
+    /**
+     * The player to move asks another player for a rank
+     * @param target position of the asked player
+     * @param rankIndex the rank asked for
+     * @return true if the ask succeeded and the same player moves again
+     */
+    boolean ask(int target, int rankIndex) {
+        long nibble = Player.RANK_NIBBLE << (rankIndex * 4);
+        long taken = hands[target] & nibble;
+        known[current] |= 1 << rankIndex;
+        lacking[current] &= ~(1 << rankIndex);
+        known[target] &= ~(1 << rankIndex);
+        lacking[target] |= 1 << rankIndex;
+        if (taken != 0) {
+            hands[target] &= ~taken;
+            hands[current] |= taken;
+            collectSets(current);
+            return true;
+        }
+        drawAndPass();
+        return false;
+    }
+
+    /**
+     * The player to move draws a card if there is one, and the turn passes on
+     */
+    void drawAndPass() {
+        if (!isDeckEmpty()) {
+            draw(current);
+        }
+        passTurn();
+    }
+
+    /**
+     * Play the rest of the round with every player asking like a KnowledgeBotStrategy
+     * @param random generator for the choices
+     */
+    void playOut(SplittableRandom random) {
+        for (int step = 0; step < MAX_STEPS && !isOver(); step++) {
+            playKnowledgeTurn(random);
+        }
+    }
+
+    /**
+     * Play one request of the player to move the way a KnowledgeBotStrategy chooses it: a sure hit
+     * first, then the rank it holds most of, then the target with the most cards, among the
+     * requests not known to fail. Ties are broken at random
+     * @param random generator for the choices
+     */
+    void playKnowledgeTurn(SplittableRandom random) {
+        if (!prepareTurn()) {
+            return;
+        }
+        long hand = hands[current];
+        int bestTarget = -1;
+        int bestRank = -1;
+        boolean bestSure = false;
+        int bestCount = 0;
+        int bestSize = 0;
+        int ties = 0;
+        boolean anyTarget = false;
+        for (int p = 0; p < players; p++) {
+            sizes[p] = p == current ? 0 : Long.bitCount(hands[p]);
+            anyTarget |= sizes[p] > 0;
+        }
+        for (long ranks = Player.heldRanks(hand); anyTarget && ranks != 0; ranks &= ranks - 1) {
+            int bit = Long.numberOfTrailingZeros(ranks);
+            int rankIndex = bit >>> 2;
+            int count = Long.bitCount(hand & (Player.RANK_NIBBLE << bit));
+            for (int p = 0; p < players; p++) {
+                if (sizes[p] == 0 || (lacking[p] & (1 << rankIndex)) != 0) {
+                    continue;
+                }
+                boolean sure = (known[p] & (1 << rankIndex)) != 0;
+                int order = bestTarget < 0 ? 1 : Boolean.compare(sure, bestSure);
+                if (order == 0) {
+                    order = Integer.compare(count, bestCount);
+                }
+                if (order == 0) {
+                    order = Integer.compare(sizes[p], bestSize);
+                }
+                if (order > 0) {
+                    bestTarget = p;
+                    bestRank = rankIndex;
+                    bestSure = sure;
+                    bestCount = count;
+                    bestSize = sizes[p];
+                    ties = 1;
+                } else if (order == 0 && random.nextInt(++ties) == 0) {
+                    bestTarget = p;
+                    bestRank = rankIndex;
+                }
+            }
+        }
+        if (!anyTarget) {
+            drawAndPass();
+        } else if (bestTarget >= 0) {
+            ask(bestTarget, bestRank);
+        } else {
+            // Every target is known to lack every rank in hand, so any request is as good
+            long ranks = Player.heldRanks(hand);
+            int target = nthTarget(random.nextInt(countTargets()));
+            ask(target, nthBit(ranks, random.nextInt(Long.bitCount(ranks))) >>> 2);
+        }
+    }
+
+    private int countTargets() {
+        int targets = 0;
+        for (int p = 0; p < players; p++) {
+            if (p != current && hands[p] != 0) {
+                targets++;
+            }
+        }
+        return targets;
+    }
+
+    private int nthTarget(int n) {
+        for (int p = 0; p < players; p++) {
+            if (p != current && hands[p] != 0 && n-- == 0) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the position of the nth set bit of a mask
+     */
+    static int nthBit(long mask, int n) {
+        for (int i = 0; i < n; i++) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    private void draw(int player) {
+        hands[player] |= 1L << deck[deckTop++];
+        lacking[player] = 0;
+        collectSets(player);
+    }
+
+    private void passTurn() {
+        current = current + 1 == players ? 0 : current + 1;
+    }
+
+    private void collectSets(int player) {
+        long complete = Player.completedSets(hands[player]);
+        if (complete != 0) {
+            // Spread each nibble base bit over its whole nibble
+            hands[player] &= ~(complete * Player.RANK_NIBBLE);
+            for (long bits = complete; bits != 0; bits &= bits - 1) {
+                // Nobody holds a collected rank anymore
+                int rank = 1 << (Long.numberOfTrailingZeros(bits) >>> 2);
+                for (int p = 0; p < players; p++) {
+                    known[p] &= ~rank;
+                    lacking[p] |= rank;
+                }
+            }
+            int count = Long.bitCount(complete);
+            sets[player] += count;
+            setsLeft -= count;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.fishingcardgame;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Telemetry pipeline collects gameplay events in a bounded buffer in memory and sends them to
+ * a TelemetrySink in batches, on its own thread, so logging an event never waits for the sink.
+ * Before a batch is sent, the turns of each seat are compacted into one summary. Batches the
+ * sink cannot take, e.g. while offline, are kept in a spool file and sent first on the next
+ * flush. When the buffer is full, the oldest events are dropped.
+ */
+public class Telemetry implements Closeable {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final int MAX_SPOOLED = 10_000;  // events kept in the spool file at most
+
+    private final TelemetrySink sink;
+    private final File spoolFile;
+    private final int capacity;
+    private final int batchSize;
+    private final ArrayDeque<TelemetryEvent> buffer;
+    private final ExecutorService executor;
+    private final Runnable drain = new Runnable() {
+        @Override
+        public void run() {
+            drain();
+        }
+    };
+    private boolean drainQueued = false;
+    private boolean closed = false;
+    private long dropped = 0;
+
+    /**
+     * Create a pipeline with the default buffer and batch sizes
+     * @param sink where the batches are sent
+     * @param spoolFile where events are kept while the sink cannot take them, or null to drop them
+     */
+    public Telemetry(TelemetrySink sink, File spoolFile) {
+        this(sink, spoolFile, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a pipeline
+     * @param sink where the batches are sent
+     * @param spoolFile where events are kept while the sink cannot take them, or null to drop them
+     * @param capacity number of events buffered in memory at most
+     * @param batchSize number of events that starts a flush, and the most sent at once
+     */
+    public Telemetry(TelemetrySink sink, File spoolFile, int capacity, int batchSize) {
+        this.sink = sink;
+        this.spoolFile = spoolFile;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.buffer = new ArrayDeque<>(capacity);
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "telemetry");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Add an event. Safe to call from any thread; a full batch is sent in the background
+     * @param event the event
+     */
+    public void log(TelemetryEvent event) {
+        boolean full;
+        synchronized (this) {
+            if (closed) {
+                return;  // late events of a game being torn down
+            }
+            if (buffer.size() == capacity) {
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(event);
+            full = buffer.size() >= batchSize && !drainQueued;
+            if (full) {
+                drainQueued = true;
+            }
+        }
+        if (full) {
+            executor.execute(drain);
+        }
+    }
+
+    /**
+     * Send everything buffered in the background, e.g. when the app goes to the background
+     */
+    public void flush() {
+        synchronized (this) {
+            if (closed || drainQueued) {
+                return;
+            }
+            drainQueued = true;
+        }
+        executor.execute(drain);
+    }
+
+    /**
+     * Send everything buffered, then stop the telemetry thread. Events logged later are dropped
+     */
+    @Override
+    public void close() {
+        flush();
+        synchronized (this) {
+            closed = true;
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Wait for the telemetry thread to finish sending after close()
+     * @param timeout how long to wait at most
+     * @param unit the unit of the timeout
+     * @return true if the thread finished, false if the time ran out first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Get the number of events dropped because the buffer was full
+     * @return the number of events dropped
+     */
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    private void drain() {
+        List<TelemetryEvent> events;
+        synchronized (this) {
+            events = new ArrayList<>(buffer);
+            buffer.clear();
+            drainQueued = false;
+        }
+        List<TelemetryEvent> pending = readSpool();
+        pending.addAll(compact(events));
+        if (pending.isEmpty()) {
+            return;
+        }
+        int sent = 0;
+        try {
+            while (sent < pending.size()) {
+                int end = Math.min(sent + batchSize, pending.size());
+                sink.send(pending.subList(sent, end));
+                sent = end;
+            }
+            if (spoolFile != null) {
+                spoolFile.delete();
+            }
+        } catch (IOException e) {
+            writeSpool(pending.subList(sent, pending.size()));
+        }
+    }
+
+    /**
+     * Merge the turns of every seat into one TURN_SUMMARY each; other events are kept as they are
+     * @param events the events, oldest first
+     * @return the compacted events, with the summaries last
+     */
+    static List<TelemetryEvent> compact(List<TelemetryEvent> events) {
+        List<TelemetryEvent> compacted = new ArrayList<>();
+        Map<Long, long[]> turnsBySeat = new TreeMap<>();  // turns, successes, cards, total_us, max_us, time
+        for (TelemetryEvent event : events) {
+            if (!TelemetryEvent.TURN.equals(event.getName())) {
+                compacted.add(event);
+                continue;
+            }
+            long[] sums = turnsBySeat.get(event.getParam("seat"));
+            if (sums == null) {
+                sums = new long[6];
+                turnsBySeat.put(event.getParam("seat"), sums);
+            }
+            long duration = event.getParam("duration_us");
+            sums[0]++;
+            sums[1] += event.getParam("success");
+            sums[2] += event.getParam("cards");
+            sums[3] += duration;
+            sums[4] = Math.max(sums[4], duration);
+            sums[5] = event.getTime();
+        }
+        for (Map.Entry<Long, long[]> seat : turnsBySeat.entrySet()) {
+            long[] sums = seat.getValue();
+            Map<String, Long> params = new LinkedHashMap<>();
+            params.put("seat", seat.getKey());
+            params.put("turns", sums[0]);
+            params.put("successes", sums[1]);
+            params.put("cards", sums[2]);
+            params.put("total_us", sums[3]);
+            params.put("max_us", sums[4]);
+            compacted.add(new TelemetryEvent(TelemetryEvent.TURN_SUMMARY, sums[5], params));
+        }
+        return compacted;
+    }
+
+    private List<TelemetryEvent> readSpool() {
+        List<TelemetryEvent> events = new ArrayList<>();
+        if (spoolFile == null || !spoolFile.exists()) {
+            return events;
+        }
+        try (BufferedReader in = new BufferedReader(new FileReader(spoolFile))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                try {
+                    events.add(TelemetryEvent.parse(line));
+                } catch (IllegalArgumentException e) {
+                    // A line cut short when the app was killed; skip it
+                }
+            }
+        } catch (IOException e) {
+            // Whatever could be read is sent; the spool is written again if sending fails
+        }
+        return events;
+    }
+
+    private void writeSpool(List<TelemetryEvent> events) {
+        if (spoolFile == null) {
+            return;
+        }
+        // Keep the newest events if the app has been offline for very long
+        int from = Math.max(0, events.size() - MAX_SPOOLED);
+        try (Writer out = new BufferedWriter(new FileWriter(spoolFile))) {
+            for (int i = from; i < events.size(); i++) {
+                out.write(events.get(i).toLine());
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            // Nowhere left to keep them; they are lost
+        }
+    }
+}
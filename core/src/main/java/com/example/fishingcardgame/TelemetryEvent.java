@@ -0,0 +1,97 @@
+package com.example.fishingcardgame;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One gameplay event for analytics: a name, the time it happened and a few numeric parameters.
+ * Events are immutable and can be written to and read back from a single line of text.
+ */
+public final class TelemetryEvent {
+    /** A round was played to its end: round, turns, duration_ms and score_0 to score_{players-1} */
+    public static final String ROUND_PLAYED = "round_played";
+    /** A request was played: seat, duration_us, success and cards received */
+    public static final String TURN = "turn";
+    /** The turns of one seat compacted: seat, turns, successes, cards, total_us and max_us */
+    public static final String TURN_SUMMARY = "turn_summary";
+    /** The game was won: winner seat and score_0 to score_{players-1} */
+    public static final String GAME_OVER = "game_over";
+
+    private final String name;
+    private final long time;
+    private final Map<String, Long> params;
+
+    /**
+     * Create an event
+     * @param name name of the event, without spaces
+     * @param time time of the event in milliseconds since the epoch
+     * @param params the parameters; keys without spaces or '='
+     */
+    public TelemetryEvent(String name, long time, Map<String, Long> params) {
+        this.name = name;
+        this.time = time;
+        this.params = Collections.unmodifiableMap(new LinkedHashMap<>(params));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public Map<String, Long> getParams() {
+        return params;
+    }
+
+    /**
+     * Get a parameter
+     * @param key name of the parameter
+     * @return its value, or 0 if the event has none
+     */
+    public long getParam(String key) {
+        Long value = params.get(key);
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Write the event as one line, e.g. "turn 1726000000000 seat=1 duration_us=42"
+     * @return the event as text, without a line break
+     */
+    public String toLine() {
+        StringBuilder line = new StringBuilder(name).append(' ').append(time);
+        for (Map.Entry<String, Long> param : params.entrySet()) {
+            line.append(' ').append(param.getKey()).append('=').append(param.getValue());
+        }
+        return line.toString();
+    }
+
+    /**
+     * Read an event written by toLine()
+     * @param line the line
+     * @return the event
+     * @throws IllegalArgumentException if the line is not an event
+     */
+    public static TelemetryEvent parse(String line) {
+        String[] fields = line.trim().split(" ");
+        if (fields.length < 2) {
+            throw new IllegalArgumentException("Not an event: " + line);
+        }
+        Map<String, Long> params = new LinkedHashMap<>();
+        for (int i = 2; i < fields.length; i++) {
+            int equals = fields[i].indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Not an event: " + line);
+            }
+            params.put(fields[i].substring(0, equals), Long.parseLong(fields[i].substring(equals + 1)));
+        }
+        return new TelemetryEvent(fields[0], Long.parseLong(fields[1]), params);
+    }
+
+    @Override
+    public String toString() {
+        return toLine();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.fishingcardgame;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where Telemetry sends its batches, e.g. an analytics service
+ */
+public interface TelemetrySink {
+    /**
+     * Send a batch of events. Called on the telemetry thread only
+     * @param events the events, oldest first
+     * @throws IOException if the batch could not be sent, e.g. while offline; it is kept and
+     *                     sent again later
+     */
+    void send(List<TelemetryEvent> events) throws IOException;
+}
@@ -0,0 +1,332 @@
+package com.example.fishingcardgame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * The Tournament pits bot strategies against each other over many seeded games, played in
+ * parallel on all cores. The seats of game after game are filled from the entrants in turn, so
+ * when there are fewer entrants than seats an entrant takes several seats of a game; over every
+ * run of as many games as entrants, each entrant takes the same number of seats. Every such run
+ * shifts the entrants by one more seat, so each also gets every seat. An entrant wins a game when
+ * one of its seats has the highest score, and entrants tied for it share the win.
+ */
+public class Tournament {
+    // z value of a 95% confidence interval
+    private static final double Z_95 = 1.96;
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Supplier<BotStrategy>> strategies = new ArrayList<>();
+    private final GameConfig config;
+
+    public Tournament() {
+        this(GameConfig.DEFAULT);
+    }
+
+    /**
+     * Create a tournament for games of any size
+     * @param config number of players and decks of every game
+     */
+    public Tournament(GameConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Add a strategy to the tournament
+     * @param name name of the strategy in the report
+     * @param strategy creates the strategy, once per game and seat
+     * @return this tournament
+     */
+    public Tournament addEntrant(String name, Supplier<BotStrategy> strategy) {
+        names.add(name);
+        strategies.add(strategy);
+        return this;
+    }
+
+    /**
+     * Play the tournament
+     * @param games number of games
+     * @param threads number of games played at the same time
+     * @param baseSeed game i is seeded with baseSeed + i
+     * @return the standing of every entrant, in the order they were added
+     */
+    public List<Standing> play(final int games, final int threads, final long baseSeed)
+            throws InterruptedException {
+        if (names.isEmpty()) {
+            throw new IllegalStateException("A tournament needs at least one entrant");
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Callable<Standing[]>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int firstGame = t;
+            workers.add(new Callable<Standing[]>() {
+                @Override
+                public Standing[] call() {
+                    Standing[] standings = newStandings();
+                    GameSimulator simulator = new GameSimulator(new NoOpGameListener(), config);
+                    for (int i = firstGame; i < games; i += threads) {
+                        playGame(simulator, i, baseSeed + i, standings);
+                    }
+                    return standings;
+                }
+            });
+        }
+
+        Standing[] total = newStandings();
+        long start = System.nanoTime();
+        try {
+            for (Future<Standing[]> result : executor.invokeAll(workers)) {
+                Standing[] standings = result.get();
+                for (int e = 0; e < total.length; e++) {
+                    total[e].add(standings[e]);
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament game failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        for (Standing standing : total) {
+            standing.gamesPerSecond = games / seconds;
+        }
+
+        List<Standing> result = new ArrayList<>();
+        for (Standing standing : total) {
+            result.add(standing);
+        }
+        return result;
+    }
+
+    private void playGame(GameSimulator simulator, int gameNumber, long seed, Standing[] standings) {
+        GameLogic game = simulator.newGame(seed);
+        int seats = game.getPlayerCount();
+        int entrants = names.size();
+        int[] entrantAtSeat = new int[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            entrantAtSeat[seat] = entrantAt(gameNumber, seat, seats, entrants);
+            game.getPlayerAtSeat(seat).setStrategy(strategies.get(entrantAtSeat[seat]).get());
+        }
+
+        int[] scores = simulator.playGame(game);
+        int best = 0;
+        for (int score : scores) {
+            best = Math.max(best, score);
+        }
+        boolean[] playing = new boolean[entrants];
+        boolean[] winning = new boolean[entrants];
+        int winners = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            int entrant = entrantAtSeat[seat];
+            Standing standing = standings[entrant];
+            standing.seatGames++;
+            standing.rounds += game.getCurrentRound();
+            standing.points += scores[seat];
+            playing[entrant] = true;
+            if (scores[seat] == best && !winning[entrant]) {
+                winning[entrant] = true;
+                winners++;
+            }
+        }
+        for (int entrant = 0; entrant < entrants; entrant++) {
+            if (playing[entrant]) {
+                standings[entrant].games++;
+            }
+            if (winning[entrant]) {
+                standings[entrant].wins += 1.0 / winners;
+            }
+        }
+    }
+
+    /**
+     * Get the entrant at a seat: the seats of consecutive games take the entrants in turn, and
+     * each run of as many games as entrants is shifted by one more entrant
+     * @param gameNumber number of the game in the tournament
+     * @param seat the seat
+     * @param seats number of seats in a game
+     * @param entrants number of entrants
+     * @return index of the entrant
+     */
+    static int entrantAt(int gameNumber, int seat, int seats, int entrants) {
+        long position = (long) gameNumber * seats + seat + gameNumber / entrants;
+        return (int) (position % entrants);
+    }
+
+    private Standing[] newStandings() {
+        Standing[] standings = new Standing[names.size()];
+        for (int e = 0; e < standings.length; e++) {
+            standings[e] = new Standing(names.get(e));
+        }
+        return standings;
+    }
+
+    /**
+     * The results of one entrant
+     */
+    public static final class Standing {
+        private final String name;
+        private long games;
+        private long seatGames;
+        private long rounds;
+        private long points;
+        private double wins;
+        private double gamesPerSecond;
+
+        Standing(String name) {
+            this.name = name;
+        }
+
+        void add(Standing other) {
+            games += other.games;
+            seatGames += other.seatGames;
+            rounds += other.rounds;
+            points += other.points;
+            wins += other.wins;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get number of games the entrant played in, with one seat or more
+         * @return number of games
+         */
+        public long getGames() {
+            return games;
+        }
+
+        /**
+         * Get number of games played, counting each seat taken by the entrant
+         * @return number of seat-games
+         */
+        public long getSeatGames() {
+            return seatGames;
+        }
+
+        /**
+         * Get the share of its games the entrant won
+         * @return win rate, counting a shared win by its share
+         */
+        public double getWinRate() {
+            return games == 0 ? 0 : wins / games;
+        }
+
+        /**
+         * Get the lower end of the 95% Wilson score interval of the win rate
+         * @return lower bound of the win rate
+         */
+        public double getWinRateLow() {
+            return wilson(-Z_95);
+        }
+
+        /**
+         * Get the upper end of the 95% Wilson score interval of the win rate
+         * @return upper bound of the win rate
+         */
+        public double getWinRateHigh() {
+            return wilson(Z_95);
+        }
+
+        public double getPointsPerRound() {
+            return rounds == 0 ? 0 : (double) points / rounds;
+        }
+
+        /**
+         * Get the speed of the whole tournament
+         * @return games played per second
+         */
+        public double getGamesPerSecond() {
+            return gamesPerSecond;
+        }
+
+        private double wilson(double z) {
+            if (games == 0) {
+                return 0;
+            }
+            // The seats of one entrant in a game are not independent, so each game is one trial
+            double n = games;
+            double p = getWinRate();
+            double centre = p + z * z / (2 * n);
+            double spread = z * Math.sqrt(p * (1 - p) / n + z * z / (4 * n * n));
+            return (centre + spread) / (1 + z * z / n);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-12s %8d %8d   %5.1f%%  [%5.1f%%, %5.1f%%]   %.3f",
+                    name, games, seatGames, 100 * getWinRate(), 100 * getWinRateLow(), 100 * getWinRateHigh(),
+                    getPointsPerRound());
+        }
+    }
+
+    /**
+     * Run a tournament from the command line
+     * @param args number of games, number of threads, base seed, then the entrants:
+     *             "random", "knowledge" or "ismcts:budgetMillis". Defaults to
+     *             100000 games on all cores with seed 1 between random and knowledge. The options
+     *             players=N and decks=M, anywhere, set the size of the games (default 4 players, 1 deck)
+     */
+    public static void main(String[] arguments) throws Exception {
+        List<String> options = new ArrayList<>(Arrays.asList(arguments));
+        GameConfig config = GameConfig.parseOptions(options);
+        String[] args = options.toArray(new String[0]);
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long baseSeed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+
+        Tournament tournament = new Tournament(config);
+        for (int i = 3; i < args.length; i++) {
+            tournament.addEntrant(args[i], parseStrategy(args[i]));
+        }
+        if (args.length <= 3) {
+            tournament.addEntrant("random", parseStrategy("random"));
+            tournament.addEntrant("knowledge", parseStrategy("knowledge"));
+        }
+
+        List<Standing> standings = tournament.play(games, threads, baseSeed);
+        System.out.printf(Locale.ROOT, "Played %d games of %s on %d threads (%.0f games/sec)%n",
+                games, config, threads, standings.get(0).getGamesPerSecond());
+        System.out.println("Strategy        Games    Seats   Win rate  95% CI             Points/round");
+        for (Standing standing : standings) {
+            System.out.println(standing);
+        }
+    }
+
+    private static Supplier<BotStrategy> parseStrategy(String name) {
+        if (name.equals("random")) {
+            return new Supplier<BotStrategy>() {
+                @Override
+                public BotStrategy get() {
+                    return new RandomBotStrategy();
+                }
+            };
+        }
+        if (name.equals("knowledge")) {
+            return new Supplier<BotStrategy>() {
+                @Override
+                public BotStrategy get() {
+                    return new KnowledgeBotStrategy();
+                }
+            };
+        }
+        if (name.startsWith("ismcts:")) {
+            final long budgetMillis = Long.parseLong(name.substring("ismcts:".length()));
+            return new Supplier<BotStrategy>() {
+                @Override
+                public BotStrategy get() {
+                    return new IsmctsBotStrategy(budgetMillis);
+                }
+            };
+        }
+        throw new IllegalArgumentException("Unknown strategy " + name);
+    }
+}
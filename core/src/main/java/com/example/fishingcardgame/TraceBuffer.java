@@ -0,0 +1,137 @@
+package com.example.fishingcardgame;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The TraceBuffer keeps the last few thousand trace records in a ring that is allocated once.
+ * Recording a record is one atomic increment and one array store, and does nothing at all while
+ * tracing is switched off, so it can stay in release builds. Each record is packed into a long:
+ * <pre>
+ *   bits 63-24  microseconds since the buffer was created
+ *   bits 23-16  type
+ *   bits 15-8   player seat, or 0xFF for none
+ *   bits 7-0    card ordinal, rank index or state, or 0xFF for none
+ * </pre>
+ * Records are only turned into text when the buffer is dumped.
+ */
+public class TraceBuffer {
+    /** A step of the game engine; value is the ordinal of the state it played */
+    public static final int STEP = 1;
+    /** A card dealt at the start of a round; value is the card ordinal */
+    public static final int DEAL = 2;
+    /** A card drawn from the deck; value is the card ordinal */
+    public static final int DRAW = 3;
+    /** A request; value is the rank index */
+    public static final int ASK = 4;
+    /** Cards handed over after a request; player is the receiver, value the lowest card ordinal */
+    public static final int TRANSFER = 5;
+    /** A set leaving a hand; value is the rank index */
+    public static final int SET = 6;
+    /** A step result shown by the UI; value is the ordinal of the state after it */
+    public static final int SHOWN = 7;
+    /** The UI ready for the next step, all animations done */
+    public static final int READY = 8;
+    /** A click on the next button */
+    public static final int CLICK = 9;
+
+    /** Player or value of a record that has none */
+    public static final int NONE = 0xFF;
+
+    private static final String[] TYPE_NAMES = {
+            "?", "STEP", "DEAL", "DRAW", "ASK", "TRANSFER", "SET", "SHOWN", "READY", "CLICK"
+    };
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private final long[] records;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+    private final long createdNanos = System.nanoTime();
+    private volatile boolean enabled;
+
+    public TraceBuffer() {
+        this(DEFAULT_CAPACITY, true);
+    }
+
+    /**
+     * Create a buffer
+     * @param capacity number of records kept; rounded up to a power of two
+     * @param enabled true to record from the start
+     */
+    public TraceBuffer(int capacity, boolean enabled) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.records = new long[size];
+        this.mask = size - 1;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Switch recording on or off; off, record() returns at once
+     * @param enabled true to record
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record a trace record, overwriting the oldest one once the ring is full. Safe to call
+     * from any thread
+     * @param type one of the type constants
+     * @param player seat of the player, or NONE
+     * @param value card ordinal, rank index or state, or NONE
+     */
+    public void record(int type, int player, int value) {
+        if (!enabled) {
+            return;
+        }
+        long micros = (System.nanoTime() - createdNanos) / 1000;
+        long index = next.getAndIncrement();
+        records[(int) (index & mask)] = micros << 24 | (type & 0xFF) << 16 | (player & 0xFF) << 8 | (value & 0xFF);
+    }
+
+    /**
+     * Get the number of records kept
+     * @return the number of records in the ring, at most its capacity
+     */
+    public int size() {
+        return (int) Math.min(next.get(), records.length);
+    }
+
+    /**
+     * Write the records kept, oldest first, one line each
+     * @param out where to write the records to
+     * @throws IOException if the records cannot be written
+     */
+    public void dump(Writer out) throws IOException {
+        long end = next.get();
+        long start = Math.max(0, end - records.length);
+        long[] copy = new long[(int) (end - start)];
+        for (long i = start; i < end; i++) {
+            copy[(int) (i - start)] = records[(int) (i & mask)];
+        }
+        StringBuilder line = new StringBuilder(64);
+        for (long record : copy) {
+            line.setLength(0);
+            long micros = record >>> 24;
+            int type = (int) (record >>> 16) & 0xFF;
+            int player = (int) (record >>> 8) & 0xFF;
+            int value = (int) record & 0xFF;
+            line.append(micros / 1000).append('.').append(String.format("%03d", micros % 1000)).append(" ms ");
+            line.append(type < TYPE_NAMES.length ? TYPE_NAMES[type] : String.valueOf(type));
+            if (player != NONE) {
+                line.append(" seat=").append(player);
+            }
+            if (value != NONE) {
+                line.append(" value=").append(value);
+            }
+            line.append('\n');
+            out.write(line.toString());
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.fishingcardgame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What one command to the GameEngine did: the cards that moved, in order, the message to show
+ * and the table as it is afterwards. A TurnResult is immutable, so it can be handed from the
+ * engine thread to the UI thread as it is.
+ */
+public final class TurnResult {
+    /** Seat of the deck in a CardMove: cards come from it when drawn and go to it when collected */
+    public static final int DECK = -1;
+
+    private final GameEngine.State state;
+    private final GameSnapshot table;
+    private final List<CardMove> moves;
+    private final String message;
+    private final boolean newRound;
+    private final boolean humanTurn;
+    private final List<String> humanRanks;
+
+    TurnResult(GameEngine.State state, GameSnapshot table, List<CardMove> moves, String message,
+               boolean newRound, boolean humanTurn, List<String> humanRanks) {
+        this.state = state;
+        this.table = table;
+        this.moves = Collections.unmodifiableList(new ArrayList<>(moves));
+        this.message = message;
+        this.newRound = newRound;
+        this.humanTurn = humanTurn;
+        this.humanRanks = Collections.unmodifiableList(new ArrayList<>(humanRanks));
+    }
+
+    /**
+     * Get the state the game is in after the command
+     * @return what the next step does
+     */
+    public GameEngine.State getState() {
+        return state;
+    }
+
+    /**
+     * Get the table after the command
+     * @return hands, scores, round and deck size after the command
+     */
+    public GameSnapshot getTable() {
+        return table;
+    }
+
+    /**
+     * Get the cards that moved, in the order they moved
+     * @return the card moves
+     */
+    public List<CardMove> getMoves() {
+        return moves;
+    }
+
+    /**
+     * Get the message to show to the human player
+     * @return the message, or null to keep the one shown
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Check if a round was set up; its deal is then in the moves
+     * @return true if a round has started
+     */
+    public boolean isNewRound() {
+        return newRound;
+    }
+
+    /**
+     * Check if the game is over
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return state == GameEngine.State.GAME_OVER;
+    }
+
+    /**
+     * Check if the human player is the one to ask next
+     * @return true if the human player can choose a bot and a rank
+     */
+    public boolean isHumanTurn() {
+        return humanTurn;
+    }
+
+    /**
+     * Get the ranks the human player can ask for
+     * @return the ranks in the human hand
+     */
+    public List<String> getHumanRanks() {
+        return humanRanks;
+    }
+
+    /**
+     * Cards that went from one place on the table to another in one go
+     */
+    public static final class CardMove {
+        private final long cards;
+        private final int from;
+        private final int to;
+
+        CardMove(long cards, int from, int to) {
+            this.cards = cards;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Get the cards that moved
+         * @return bitmask with bit card.ordinal() set for every card
+         */
+        public long getCards() {
+            return cards;
+        }
+
+        /**
+         * Get the seat the cards left
+         * @return the seat, or DECK
+         */
+        public int getFrom() {
+            return from;
+        }
+
+        /**
+         * Get the seat the cards went to
+         * @return the seat, or DECK
+         */
+        public int getTo() {
+            return to;
+        }
+    }
+}
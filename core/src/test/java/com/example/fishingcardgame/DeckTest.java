@@ -0,0 +1,70 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DeckTest {
+
+    @Test
+    public void sameSeedShufflesTheSameOrder() {
+        Deck first = new Deck(new GameRandom(42));
+        Deck second = new Deck(new GameRandom(42));
+        first.reset();
+        second.reset();
+
+        for (int position = 0; position < Card.DECK_SIZE; position++) {
+            assertEquals(first.getCard(position), second.getCard(position));
+        }
+    }
+
+    @Test
+    public void otherSeedShufflesAnotherOrder() {
+        Deck first = new Deck(new GameRandom(42));
+        Deck second = new Deck(new GameRandom(43));
+        first.reset();
+        second.reset();
+
+        boolean differs = false;
+        for (int position = 0; position < Card.DECK_SIZE; position++) {
+            differs |= !first.getCard(position).equals(second.getCard(position));
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    public void shuffleKeepsEveryCardOncePerDeck() {
+        Deck deck = new Deck(new GameRandom(7), 3);
+        deck.reset();
+
+        int[] copies = new int[Card.DECK_SIZE];
+        for (int i = 0; i < 3 * Card.DECK_SIZE; i++) {
+            copies[deck.drawCard().ordinal()]++;
+        }
+        for (int count : copies) {
+            assertEquals(3, count);
+        }
+        assertTrue(deck.isEmpty());
+        assertNull(deck.drawCard());
+    }
+
+    @Test
+    public void dealToHandsOutTheNextCards() {
+        Deck deck = new Deck(new GameRandom(1));
+        deck.reset();
+        Player player = new Player("Bot 1");
+
+        int first = deck.dealTo(player, 5);
+
+        assertEquals(0, first);
+        assertEquals(5, player.getHandSize());
+        assertEquals(Card.DECK_SIZE - 5, deck.getSize());
+        assertFalse(deck.isEmpty());
+        for (int position = 0; position < 5; position++) {
+            assertTrue((player.getHandMask() & (1L << deck.getCard(position).ordinal())) != 0);
+        }
+    }
+}
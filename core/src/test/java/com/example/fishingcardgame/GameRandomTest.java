@@ -0,0 +1,43 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class GameRandomTest {
+
+    @Test
+    public void drawsWhatSplittableRandomDraws() {
+        SplittableRandom expected = new SplittableRandom(99);
+        GameRandom random = new GameRandom(99);
+        for (int bound = 1; bound < 10_000; bound++) {
+            assertEquals(expected.nextInt(bound), random.nextInt(bound));
+            assertEquals(expected.nextLong(), random.nextLong());
+        }
+        assertEquals(expected.nextInt(Integer.MAX_VALUE), random.nextInt(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void savedStateContinuesTheSequence() throws IOException {
+        GameRandom random = new GameRandom(5);
+        for (int i = 0; i < 100; i++) {
+            random.nextInt(52);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        random.writeTo(new DataOutputStream(bytes));
+
+        GameRandom restored = new GameRandom(0);
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random.nextLong(), restored.nextLong());
+        }
+    }
+}
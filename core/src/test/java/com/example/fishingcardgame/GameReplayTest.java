@@ -0,0 +1,99 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class GameReplayTest {
+
+    @Test
+    public void seekMatchesTheLiveGameBeforeEveryTurn() throws IOException {
+        // With two players the bot often finds the other hand empty and can only draw and pass
+        for (long seed = 1; seed <= 20; seed++) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            EventLog log = new EventLog(bytes);
+            GameLogic game = new GameLogic(new NoOpGameListener(), seed, new GameConfig(seed % 2 == 0 ? 2 : 4, 1));
+            game.setEventLog(log);
+
+            // The live state right before each turn record is written; every step plays one turn
+            List<GameSnapshot> states = new ArrayList<>();
+            game.startGame();
+            while (!game.isGameOver()) {
+                if (game.isRoundOver()) {
+                    game.setStartNextRound(true);
+                    game.setupRound();
+                    game.setStartNextRound(false);
+                    continue;
+                }
+                // A player with an empty hand draws before the turn, or skips it if the deck is empty
+                GameSnapshot beforeSkip = liveState(game);
+                if (game.prepareTurn()) {
+                    states.add(liveState(game));
+                    game.botTurn(game.currentPlayer);
+                    game.removeCollectedSets();
+                } else {
+                    states.add(beforeSkip);
+                }
+            }
+            log.close();
+
+            List<GameReplay> replays = GameReplay.ofLog(EventLog.readAll(new ByteArrayInputStream(bytes.toByteArray())));
+            assertEquals(1, replays.size());
+            GameReplay replay = replays.get(0);
+            assertEquals(states.size(), countTurns(bytes));
+            assertEquals(states.size(), replay.getTurnCount());
+            for (int turn = 0; turn < states.size(); turn++) {
+                assertSameState(states.get(turn), replay.seek(turn));
+            }
+            // Seeking backwards restores from the snapshots
+            assertSameState(states.get(0), replay.seek(0));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void gameStartWithoutPlayersIsRejected() {
+        int[] records = {EventLog.pack(EventLog.GAME_START, 0, 0, 0, 1), 0, 1,
+                EventLog.pack(EventLog.ROUND_START, 0, 0, 1, 0)};
+        new GameReplay(records, 0, GameReplay.DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    private static int countTurns(ByteArrayOutputStream bytes) throws IOException {
+        int turns = 0;
+        for (int record : EventLog.readAll(new ByteArrayInputStream(bytes.toByteArray()))) {
+            int type = EventLog.type(record);
+            if (type == EventLog.ASK || type == EventLog.SKIP || type == EventLog.PASS) {
+                turns++;
+            }
+        }
+        return turns;
+    }
+
+    private static GameSnapshot liveState(GameLogic game) {
+        int players = game.getPlayerCount();
+        long[] hands = new long[players];
+        int[] scores = new int[players];
+        for (int seat = 0; seat < players; seat++) {
+            hands[seat] = game.getPlayerAtSeat(seat).getHandMask();
+            scores[seat] = game.getScore(seat);
+        }
+        return new GameSnapshot(0, game.getCurrentRound(), game.currentPlayer.getSeat(), game.getDeck().getSize(),
+                game.getCollectedCards(), hands, scores, 0);
+    }
+
+    private static void assertSameState(GameSnapshot expected, GameSnapshot actual) {
+        assertEquals(expected.getRound(), actual.getRound());
+        assertEquals(expected.getCurrentSeat(), actual.getCurrentSeat());
+        assertEquals(expected.getDeckSize(), actual.getDeckSize());
+        assertEquals(expected.getCollectedCards(), actual.getCollectedCards());
+        for (int seat = 0; seat < expected.getPlayerCount(); seat++) {
+            assertEquals(expected.getHand(seat), actual.getHand(seat));
+            assertEquals(expected.getScore(seat), actual.getScore(seat));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class IsmctsBotStrategyTest {
+    private final ForkJoinPool pool = new ForkJoinPool(1);
+    // A budget that never runs out, so the iteration limit alone ends the search
+    private final IsmctsBotStrategy strategy = new IsmctsBotStrategy(60_000, 1000, pool);
+
+    @After
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void chosenRequestIsLegalAndRepeatable() {
+        for (long seed = 1; seed <= 5; seed++) {
+            GameLogic game = startedGame(seed);
+            Player bot = game.currentPlayer;
+
+            BotMove move = strategy.chooseMove(game, bot);
+
+            assertNotEquals(bot.getSeat(), move.getTarget().getSeat());
+            assertTrue(move.getTarget().getHandSize() > 0);
+            assertTrue(bot.hasRank(move.getRank()));
+            // The same game and iterations give the same request
+            GameLogic again = startedGame(seed);
+            BotMove repeated = strategy.chooseMove(again, again.currentPlayer);
+            assertEquals(move.getTarget().getSeat(), repeated.getTarget().getSeat());
+            assertEquals(move.getRank(), repeated.getRank());
+        }
+    }
+
+    @Test
+    public void sureHitIsTaken() {
+        for (long seed = 1; seed <= 10; seed++) {
+            GameLogic game = new GameLogic(new NoOpGameListener(), seed);
+            game.startGame();
+            for (int seat = 0; seat < 4; seat++) {
+                game.getPlayerAtSeat(seat).clearHand();
+            }
+            Player bot = game.getPlayerAtSeat(1);
+            bot.addCard(Card.of("Clubs", "9"));
+            bot.addCard(Card.of("Diamonds", "9"));
+            bot.addCard(Card.of("Hearts", "9"));
+            bot.addCard(Card.of("Hearts", "2"));
+            game.getPlayerAtSeat(0).addCard(Card.of("Hearts", "7"));
+            game.getPlayerAtSeat(2).addCard(Card.of("Spades", "9"));
+            game.getPlayerAtSeat(2).addCard(Card.of("Clubs", "K"));
+            game.getPlayerAtSeat(3).addCard(Card.of("Diamonds", "5"));
+            // Seat 2 asked seat 3 for a nine, so the bot knows where the last one of its set is
+            game.getKnowledge().onAsk(2, 3, Card.rankToIndex("9"), 0L);
+            game.currentPlayer = bot;
+
+            BotMove move = strategy.chooseMove(game, bot);
+
+            assertEquals(2, move.getTarget().getSeat());
+            assertEquals("9", move.getRank());
+        }
+    }
+
+    private static GameLogic startedGame(long seed) {
+        GameLogic game = new GameLogic(new NoOpGameListener(), seed);
+        game.startGame();
+        game.prepareTurn();
+        return game;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class MultiDeckTest {
+
+    @Test
+    public void twoCopiesOfEverySuitMakeTwoSets() {
+        Player player = new Player("Bot 1");
+        for (int deck = 0; deck < 2; deck++) {
+            for (String suit : Card.SUITS) {
+                player.addCard(Card.of(suit, "9"));
+            }
+        }
+        player.addCard(Card.of("Hearts", "9"));
+
+        assertEquals(Arrays.asList("9", "9"), player.checkForSets());
+        for (int set = 0; set < 2; set++) {
+            Set<String> suits = new HashSet<>();
+            for (Card card : player.removeSet("9")) {
+                suits.add(card.getSuit());
+            }
+            assertEquals(4, suits.size());
+        }
+        assertEquals(1, player.getHandSize());
+        assertEquals(0L, player.completedSets());
+        assertTrue(player.hasRank("9"));
+    }
+
+    @Test
+    public void fourCardsOfOneSuitAreASet() {
+        Player player = new Player("Bot 1");
+        for (int deck = 0; deck < 4; deck++) {
+            player.addCard(Card.of("Spades", "J"));
+        }
+
+        assertEquals(1L << (Card.rankToIndex("J") * 4), player.completedSets());
+        List<Card> set = player.removeSet("J");
+        assertEquals(4, set.size());
+        assertEquals(0, player.getHandSize());
+        assertEquals(0L, player.getHandMask());
+    }
+
+    @Test
+    public void everySetOfEveryDeckIsScored() {
+        GameConfig config = new GameConfig(6, 3);
+        for (long seed = 1; seed <= 20; seed++) {
+            int[] scores = new GameSimulator(new NoOpGameListener(), config).playGame(seed);
+
+            assertEquals(6, scores.length);
+            int total = 0;
+            for (int score : scores) {
+                total += score;
+            }
+            assertEquals(config.getRounds() * config.getSetsPerRound(), total);
+        }
+    }
+
+    @Test
+    public void sameSeedPlaysTheSameMultiDeckGame() {
+        GameConfig config = new GameConfig(3, 2);
+        int[] first = new GameSimulator(new NoOpGameListener(), config).playGame(7);
+        int[] second = new GameSimulator(new NoOpGameListener(), config).playGame(7);
+        assertTrue(Arrays.equals(first, second));
+    }
+
+    @Test
+    public void handingInASetRevealsNothingAboutTheCopiesLeft() throws IOException {
+        // The same public events, once with no nine left after the set and once with one
+        assertArrayEquals(knowledgeAfterSet(false), knowledgeAfterSet(true));
+    }
+
+    private static byte[] knowledgeAfterSet(boolean extraCopy) throws IOException {
+        GameLogic game = new GameLogic(new NoOpGameListener(), 1, new GameConfig(3, 2));
+        game.startGame();
+        for (int seat = 0; seat < 3; seat++) {
+            game.getPlayerAtSeat(seat).clearHand();
+        }
+        final Player asker = game.getPlayerAtSeat(1);
+        final Player target = game.getPlayerAtSeat(2);
+        asker.addCard(Card.of("Clubs", "9"));
+        asker.addCard(Card.of("Diamonds", "9"));
+        asker.addCard(Card.of("Hearts", "9"));
+        if (extraCopy) {
+            asker.addCard(Card.of("Diamonds", "9"));
+        }
+        asker.addCard(Card.of("Hearts", "2"));
+        target.addCard(Card.of("Spades", "9"));
+        target.addCard(Card.of("Clubs", "K"));
+        asker.setStrategy(new BotStrategy() {
+            @Override
+            public BotMove chooseMove(GameLogic game, Player bot) {
+                return new BotMove(target, "9");
+            }
+        });
+        game.currentPlayer = asker;
+
+        game.botTurn(asker);
+        game.removeCollectedSets();
+
+        assertEquals(1, game.getScore(1));
+        assertEquals(extraCopy, asker.hasRank("9"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        game.getKnowledge().writeTo(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class PlayerTest {
+
+    @Test
+    public void addCardSetsTheBitOfTheCard() {
+        Player player = new Player("Bot 1");
+        player.addCard(Card.of("Hearts", "7"));
+        player.addCard(Card.of("Clubs", "A"));
+
+        long expected = (1L << Card.of("Hearts", "7").ordinal()) | (1L << Card.of("Clubs", "A").ordinal());
+        assertEquals(expected, player.getHandMask());
+        assertEquals(2, player.getHandSize());
+        assertTrue(player.hasRank("7"));
+        assertTrue(player.hasRank("A"));
+        assertFalse(player.hasRank("8"));
+    }
+
+    @Test
+    public void giveCardsClearsTheWholeRank() {
+        Player player = new Player("Bot 1");
+        player.addCard(Card.of("Hearts", "7"));
+        player.addCard(Card.of("Spades", "7"));
+        player.addCard(Card.of("Clubs", "8"));
+
+        List<Card> given = player.giveCards("7");
+
+        assertEquals(2, given.size());
+        assertEquals(1L << Card.of("Clubs", "8").ordinal(), player.getHandMask());
+        assertEquals(1, player.getHandSize());
+        assertEquals(0, player.getRankCount(Card.rankToIndex("7")));
+        assertFalse(player.hasRank("7"));
+    }
+
+    @Test
+    public void removeSetTakesTheFourSuits() {
+        Player player = new Player("Bot 1");
+        for (String suit : Card.SUITS) {
+            player.addCard(Card.of(suit, "Q"));
+        }
+        player.addCard(Card.of("Diamonds", "2"));
+        assertEquals(1L << (Card.rankToIndex("Q") * 4), player.completedSets());
+
+        List<Card> set = player.removeSet("Q");
+
+        assertEquals(4, set.size());
+        assertEquals(1L << Card.of("Diamonds", "2").ordinal(), player.getHandMask());
+        assertEquals(0L, player.completedSets());
+        assertEquals(1, player.getHandSize());
+        assertFalse(player.hasRank("Q"));
+    }
+
+    @Test
+    public void removeSetLeavesAnIncompleteRank() {
+        Player player = new Player("Bot 1");
+        player.addCard(Card.of("Clubs", "5"));
+        player.addCard(Card.of("Hearts", "5"));
+
+        assertTrue(player.removeSet("5").isEmpty());
+        assertEquals(2, player.getHandSize());
+        assertTrue(player.hasRank("5"));
+    }
+
+    @Test
+    public void completedSetsOfMaskMatchesTheHand() {
+        long hand = 0L;
+        for (int suit = 0; suit < Card.SUITS.length; suit++) {
+            hand |= 1L << Card.of(Card.SUITS[suit], "K").ordinal();
+        }
+        hand |= 1L << Card.of("Clubs", "3").ordinal();
+
+        assertEquals(1L << (Card.rankToIndex("K") * 4), Player.completedSets(hand));
+        assertEquals((1L << (Card.rankToIndex("K") * 4)) | (1L << (Card.rankToIndex("3") * 4)),
+                Player.heldRanks(hand));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.zip.CRC32;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SavedGameTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void resumedGamePlaysOnLikeTheOriginal() throws IOException {
+        for (long seed = 1; seed <= 10; seed++) {
+            GameLogic original = new GameLogic(new NoOpGameListener(), seed);
+            original.startGame();
+            play(original, 40);
+            byte[] data = SavedGame.write(original, 3, 40);
+
+            GameLogic resumed = new GameLogic(new NoOpGameListener(), seed + 100);
+            SavedGame saved = SavedGame.read(data, resumed);
+            assertEquals(3, saved.state);
+            assertEquals(40, saved.turn);
+            assertArrayEquals(data, SavedGame.write(resumed, 3, 40));
+
+            // Same shuffles and bot choices from here on, as the generator is saved too
+            play(original, Integer.MAX_VALUE);
+            play(resumed, Integer.MAX_VALUE);
+            for (int seat = 0; seat < original.getPlayerCount(); seat++) {
+                assertEquals(original.getScore(seat), resumed.getScore(seat));
+            }
+        }
+    }
+
+    @Test
+    public void saveFileRoundTrip() throws IOException {
+        GameLogic game = new GameLogic(new NoOpGameListener(), 7, new GameConfig(5, 2));
+        game.startGame();
+        play(game, 25);
+        byte[] data = SavedGame.write(game, 1, 25);
+        File file = new File(folder.getRoot(), "game.sav");
+
+        SavedGame.writeFile(file, data);
+
+        assertArrayEquals(data, SavedGame.readFile(file));
+        GameLogic resumed = new GameLogic(new NoOpGameListener(), 8, new GameConfig(5, 2));
+        SavedGame.read(SavedGame.readFile(file), resumed);
+        assertArrayEquals(data, SavedGame.write(resumed, 1, 25));
+    }
+
+    @Test
+    public void badChecksumIsRejectedAndLeavesTheGameAlone() throws IOException {
+        GameLogic game = new GameLogic(new NoOpGameListener(), 3);
+        game.startGame();
+        play(game, 10);
+        byte[] data = SavedGame.write(game, 0, 10);
+        data[data.length / 2] ^= 0x40;
+
+        GameLogic other = new GameLogic(new NoOpGameListener(), 4);
+        other.startGame();
+        byte[] before = SavedGame.write(other, 0, 0);
+        assertRejected(data, other);
+        assertArrayEquals(before, SavedGame.write(other, 0, 0));
+    }
+
+    @Test
+    public void otherVersionIsRejected() throws IOException {
+        GameLogic game = new GameLogic(new NoOpGameListener(), 3);
+        game.startGame();
+        byte[] data = SavedGame.write(game, 0, 0);
+        // A file of another version with a valid checksum
+        data[4] = SavedGame.VERSION + 1;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(data, 0, data.length - 8);
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 8);
+        out.writeLong(crc.getValue());
+
+        assertRejected(bytes.toByteArray(), new GameLogic(new NoOpGameListener(), 3));
+    }
+
+    @Test
+    public void otherTableIsRejected() throws IOException {
+        GameLogic game = new GameLogic(new NoOpGameListener(), 3, new GameConfig(4, 2));
+        game.startGame();
+        byte[] data = SavedGame.write(game, 0, 0);
+
+        assertRejected(data, new GameLogic(new NoOpGameListener(), 3));
+        assertRejected(new byte[] {1, 2, 3}, new GameLogic(new NoOpGameListener(), 3));
+    }
+
+    private static void assertRejected(byte[] data, GameLogic game) {
+        try {
+            SavedGame.read(data, game);
+            fail("Saved game was read");
+        } catch (IOException expected) {
+            // The engine deals a new game instead
+        }
+    }
+
+    // Play steps the way GameSimulator does, at most the given number of turns
+    private static void play(GameLogic game, int turns) {
+        for (int turn = 0; turn < turns && !game.isGameOver(); ) {
+            if (game.isRoundOver()) {
+                game.setStartNextRound(true);
+                game.setupRound();
+                game.setStartNextRound(false);
+                continue;
+            }
+            if (game.prepareTurn()) {
+                game.botTurn(game.currentPlayer);
+                game.removeCollectedSets();
+            }
+            turn++;
+        }
+    }
+}
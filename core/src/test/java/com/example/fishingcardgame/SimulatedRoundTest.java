@@ -0,0 +1,59 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+public class SimulatedRoundTest {
+
+    @Test
+    public void dealKeepsHandSizesAndKnowledge() {
+        int nines = Card.rankToIndex("9");
+        int kings = Card.rankToIndex("K");
+        long shownNine = 1L << Card.of("Spades", "9").ordinal();
+        KnowledgeTracker knowledge = new KnowledgeTracker(4);
+        // Seat 1 asked for a nine and was handed the nine of spades by seat 2, so it holds another
+        knowledge.onAsk(1, 2, nines, shownNine);
+        // Seat 3 asked seat 1 for a king in vain
+        knowledge.onAsk(3, 1, kings, 0L);
+
+        long myHand = 0L;
+        for (String rank : new String[] {"A", "2", "3", "4", "5"}) {
+            myHand |= 1L << Card.of("Clubs", rank).ordinal();
+        }
+        int[] unknown = new int[Card.DECK_SIZE - 5];
+        for (int card = 0, i = 0; card < Card.DECK_SIZE; card++) {
+            if ((myHand & (1L << card)) == 0) {
+                unknown[i++] = card;
+            }
+        }
+        int[] handSizes = {5, 5, 5, 5};
+        SimulatedRound round = new SimulatedRound(4);
+        round.observe(knowledge, new int[] {0, 1, 2, 3});
+
+        for (long seed = 1; seed <= 100; seed++) {
+            round.deal(0, myHand, handSizes, unknown, 2, Card.RANKS.length, new SplittableRandom(seed));
+
+            assertEquals(myHand, round.hands[0]);
+            long dealt = 0L;
+            for (int p = 0; p < 4; p++) {
+                assertEquals(handSizes[p], Long.bitCount(round.hands[p]));
+                assertEquals(0L, dealt & round.hands[p]);
+                dealt |= round.hands[p];
+            }
+            assertTrue((round.hands[1] & shownNine) != 0);
+            assertTrue(Long.bitCount(round.hands[1] & rank(nines)) >= 2);
+            assertTrue((round.hands[3] & rank(kings)) != 0);
+            assertEquals(0L, round.hands[2] & rank(nines));
+            assertEquals(0L, round.hands[1] & rank(kings));
+            assertEquals(2, round.current);
+        }
+    }
+
+    private static long rank(int rankIndex) {
+        return Player.RANK_NIBBLE << (rankIndex * 4);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.fishingcardgame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TelemetryTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void spooledEventsAreSentFirstOnceTheSinkWorksAgain() throws Exception {
+        File spool = new File(folder.getRoot(), "telemetry.spool");
+        File sent = new File(folder.getRoot(), "telemetry.log");
+
+        Telemetry offline = new Telemetry(new TelemetrySink() {
+            @Override
+            public void send(List<TelemetryEvent> events) throws IOException {
+                throw new IOException("offline");
+            }
+        }, spool, 16, 16);
+        offline.log(round(1));
+        offline.log(round(2));
+        offline.close();
+        assertTrue(offline.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2, Files.readAllLines(spool.toPath()).size());
+
+        Telemetry online = new Telemetry(new FileTelemetrySink(sent), spool, 16, 16);
+        online.log(round(3));
+        online.close();
+        assertTrue(online.awaitTermination(5, TimeUnit.SECONDS));
+
+        List<String> lines = Files.readAllLines(sent.toPath());
+        assertEquals(3, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(i + 1, TelemetryEvent.parse(lines.get(i)).getParam("round"));
+        }
+        assertFalse(spool.exists());
+    }
+
+    @Test
+    public void turnsAreCompactedPerSeat() {
+        List<TelemetryEvent> events = new ArrayList<>();
+        events.add(turn(1, 1, 3, 100));
+        events.add(round(1));
+        events.add(turn(1, 0, 0, 300));
+        events.add(turn(2, 1, 1, 50));
+
+        List<TelemetryEvent> compacted = Telemetry.compact(events);
+
+        assertEquals(3, compacted.size());
+        assertEquals(TelemetryEvent.ROUND_PLAYED, compacted.get(0).getName());
+        TelemetryEvent seat1 = compacted.get(1);
+        assertEquals(TelemetryEvent.TURN_SUMMARY, seat1.getName());
+        assertEquals(1, seat1.getParam("seat"));
+        assertEquals(2, seat1.getParam("turns"));
+        assertEquals(1, seat1.getParam("successes"));
+        assertEquals(3, seat1.getParam("cards"));
+        assertEquals(400, seat1.getParam("total_us"));
+        assertEquals(300, seat1.getParam("max_us"));
+        assertEquals(2, compacted.get(2).getParam("seat"));
+    }
+
+    private static TelemetryEvent round(long round) {
+        return new TelemetryEvent(TelemetryEvent.ROUND_PLAYED, round,
+                Collections.singletonMap("round", round));
+    }
+
+    private static TelemetryEvent turn(long seat, long success, long cards, long micros) {
+        Map<String, Long> params = new LinkedHashMap<>();
+        params.put("seat", seat);
+        params.put("success", success);
+        params.put("cards", cards);
+        params.put("duration_us", micros);
+        return new TelemetryEvent(TelemetryEvent.TURN, 0, params);
+    }
+}